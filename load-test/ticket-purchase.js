@@ -0,0 +1,152 @@
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ADMIN_EMAIL = __ENV.ADMIN_EMAIL || 'admin@eventhub.local';
+const ADMIN_PASSWORD = __ENV.ADMIN_PASSWORD || 'admin123';
+const BUYERS = Number(__ENV.BUYERS || 500);
+const CAPACITY = Number(__ENV.CAPACITY || 100000);
+const RATE = Number(__ENV.RATE || 500);
+const DURATION = __ENV.DURATION || '2m';
+// Each buyer can hold one ticket per event, so the purchases are spread over enough events for every request
+// to be a distinct (buyer, event) pair.
+const EVENTS = Number(__ENV.EVENTS || Math.ceil(RATE * durationSeconds(DURATION) / BUYERS));
+
+const purchasesCreated = new Counter('purchases_created');
+const purchasesConflict = new Counter('purchases_conflict');
+const purchasesRejected = new Counter('purchases_rejected');
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        purchases: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(BUYERS, 200),
+            maxVUs: BUYERS,
+            exec: 'purchase',
+        },
+        myTickets: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+            exec: 'myTickets',
+        },
+        browsing: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 200,
+            exec: 'browse',
+        },
+    },
+    setupTimeout: '5m',
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{scenario:purchases}': ['p(99)<2000'],
+        'http_req_duration{scenario:myTickets}': ['p(99)<1000'],
+        'http_req_duration{scenario:browsing}': ['p(99)<1000'],
+    },
+};
+
+function durationSeconds(duration) {
+    const units = { ms: 0.001, s: 1, m: 60, h: 3600 };
+    let seconds = 0;
+    for (const [, amount, unit] of duration.matchAll(/(\d+)(ms|s|m|h)/g)) {
+        seconds += Number(amount) * units[unit];
+    }
+    return seconds;
+}
+
+function login(email, password) {
+    const response = http.post(`${BASE_URL}/auth/login`, JSON.stringify({ email, password }), { headers: JSON_HEADERS });
+    check(response, { 'login succeeded': (r) => r.status === 200 });
+    return response.json('token');
+}
+
+function authHeaders(token) {
+    return { ...JSON_HEADERS, Authorization: `Bearer ${token}` };
+}
+
+export function setup() {
+    const adminToken = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+    const date = new Date(Date.now() + 30 * 24 * 3600 * 1000).toISOString().slice(0, 10);
+    const runId = Date.now();
+    const eventIds = [];
+    for (let i = 0; i < EVENTS; i++) {
+        const event = http.post(`${BASE_URL}/events`, JSON.stringify({
+            name: `Load test ${runId} #${i}`,
+            date,
+            location: 'k6',
+            capacity: CAPACITY,
+        }), { headers: authHeaders(adminToken) });
+        check(event, { 'event created': (r) => r.status === 201 });
+        eventIds.push(event.json('id'));
+    }
+
+    const tokens = [];
+    for (let i = 0; i < BUYERS; i++) {
+        const response = http.post(`${BASE_URL}/auth/register`, JSON.stringify({
+            name: `Buyer ${i}`,
+            email: `buyer-${runId}-${i}@loadtest.local`,
+            password: 'load-test-password',
+        }), { headers: JSON_HEADERS });
+        tokens.push(response.json('token'));
+    }
+
+    return { adminToken, eventIds, tokens };
+}
+
+export function teardown(data) {
+    // User lookups that missed the principal cache are the ones that reached the database.
+    const hits = userCacheGets(data.adminToken, 'hit');
+    const misses = userCacheGets(data.adminToken, 'miss');
+    if (hits !== null && misses !== null && hits + misses > 0) {
+        console.log(`User lookups: ${hits + misses}, database queries: ${misses} (${(100 * misses / (hits + misses)).toFixed(2)}%)`);
+    }
+}
+
+function userCacheGets(token, result) {
+    const response = http.get(
+        `${BASE_URL}/actuator/metrics/cache.gets?tag=cache:users&tag=result:${result}`,
+        { headers: authHeaders(token) });
+    return response.status === 200 ? response.json('measurements.0.value') : null;
+}
+
+export function purchase(data) {
+    // Iteration i buys for buyer i % BUYERS on event i / BUYERS, so no pair repeats until every event was used.
+    const iteration = exec.scenario.iterationInTest;
+    const token = data.tokens[iteration % data.tokens.length];
+    const eventId = data.eventIds[Math.floor(iteration / data.tokens.length) % data.eventIds.length];
+    const response = http.post(`${BASE_URL}/events/${eventId}/tickets`, null, { headers: authHeaders(token) });
+    if (response.status === 201) {
+        purchasesCreated.add(1);
+    } else if (response.status === 409) {
+        purchasesConflict.add(1);
+    } else {
+        purchasesRejected.add(1, { status: String(response.status) });
+    }
+    check(response, { 'ticket created': (r) => r.status === 201 });
+}
+
+export function myTickets(data) {
+    const token = data.tokens[(__VU - 1) % data.tokens.length];
+    const response = http.get(`${BASE_URL}/participant/tickets`, { headers: authHeaders(token) });
+    check(response, { 'tickets listed': (r) => r.status === 200 });
+}
+
+export function browse(data) {
+    const eventId = data.eventIds[Math.floor(Math.random() * data.eventIds.length)];
+    const response = http.get(`${BASE_URL}/events/${eventId}`);
+    check(response, { 'event fetched': (r) => r.status === 200 });
+}
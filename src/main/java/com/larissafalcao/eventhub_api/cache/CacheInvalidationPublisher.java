@@ -0,0 +1,8 @@
+package com.larissafalcao.eventhub_api.cache;
+
+public interface CacheInvalidationPublisher {
+
+    void publishEvict(String cacheName, String key);
+
+    void publishClear(String cacheName);
+}
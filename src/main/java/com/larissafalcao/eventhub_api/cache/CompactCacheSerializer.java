@@ -0,0 +1,195 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Writes the values of the event caches as fixed binary layouts instead of JSON with type metadata. Each entry
+ * starts with a magic byte and a flags byte; bodies larger than the compression threshold are deflated. Types
+ * without a layout, and entries that do not start with the magic byte, go through the JSON serializer.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xEB;
+    private static final byte FLAG_DEFLATED = 0x01;
+
+    private static final byte TYPE_JSON = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_EVENT = 2;
+    private static final byte TYPE_PAGE_INDEX = 3;
+    private static final byte TYPE_LONG = 4;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    public CompactCacheSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            byte[] body = writeBody(value);
+            boolean deflate = compressionThreshold > 0 && body.length > compressionThreshold;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 2);
+            bytes.write(MAGIC);
+            bytes.write(deflate ? FLAG_DEFLATED : 0);
+            if (deflate) {
+                try (DeflaterOutputStream deflater =
+                             new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED))) {
+                    deflater.write(body);
+                }
+            } else {
+                bytes.write(body);
+            }
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new SerializationException("Could not write cache entry of type " + value.getClass().getName(), ex);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        InputStream body = new ByteArrayInputStream(bytes, 2, bytes.length - 2);
+        if ((bytes[1] & FLAG_DEFLATED) != 0) {
+            body = new InflaterInputStream(body);
+        }
+        try (DataInputStream in = new DataInputStream(body)) {
+            return readBody(in);
+        } catch (IOException ex) {
+            throw new SerializationException("Could not read cache entry", ex);
+        }
+    }
+
+    private byte[] writeBody(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        switch (value) {
+            case String string -> {
+                out.writeByte(TYPE_STRING);
+                writeString(out, string);
+            }
+            case Long number -> {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(number);
+            }
+            case EventResponse event -> {
+                out.writeByte(TYPE_EVENT);
+                writeEvent(out, event);
+            }
+            case EventPageIndex index -> {
+                out.writeByte(TYPE_PAGE_INDEX);
+                writePageIndex(out, index);
+            }
+            default -> {
+                out.writeByte(TYPE_JSON);
+                out.write(fallback.serialize(value));
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private Object readBody(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_STRING -> readString(in);
+            case TYPE_EVENT -> readEvent(in);
+            case TYPE_PAGE_INDEX -> readPageIndex(in);
+            case TYPE_LONG -> in.readLong();
+            case TYPE_JSON -> fallback.deserialize(in.readAllBytes());
+            default -> throw new SerializationException("Unknown cache entry type " + type);
+        };
+    }
+
+    private static void writeEvent(DataOutputStream out, EventResponse event) throws IOException {
+        out.writeLong(event.getId());
+        writeString(out, event.getName());
+        out.writeBoolean(event.getDate() != null);
+        if (event.getDate() != null) {
+            out.writeLong(event.getDate().toEpochDay());
+        }
+        writeString(out, event.getLocation());
+        out.writeBoolean(event.getCapacity() != null);
+        if (event.getCapacity() != null) {
+            out.writeInt(event.getCapacity());
+        }
+    }
+
+    private static EventResponse readEvent(DataInputStream in) throws IOException {
+        return EventResponse.builder()
+                .id(in.readLong())
+                .name(readString(in))
+                .date(in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null)
+                .location(readString(in))
+                .capacity(in.readBoolean() ? in.readInt() : null)
+                .build();
+    }
+
+    private static void writePageIndex(DataOutputStream out, EventPageIndex index) throws IOException {
+        out.writeLong(index.totalElements());
+        out.writeLong(index.loadedAtEpochMilli());
+        out.writeLong(index.loadMillis());
+        out.writeInt(index.eventIds().size());
+        for (Long eventId : index.eventIds()) {
+            out.writeLong(eventId);
+        }
+    }
+
+    private static EventPageIndex readPageIndex(DataInputStream in) throws IOException {
+        long totalElements = in.readLong();
+        long loadedAt = in.readLong();
+        long loadMillis = in.readLong();
+        int size = in.readInt();
+        List<Long> eventIds = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            eventIds.add(in.readLong());
+        }
+        return new EventPageIndex(List.copyOf(eventIds), totalElements, loadedAt, loadMillis);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
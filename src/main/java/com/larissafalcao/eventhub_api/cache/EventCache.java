@@ -0,0 +1,340 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.larissafalcao.eventhub_api.config.CacheConfig;
+import com.larissafalcao.eventhub_api.dto.request.EventCursor;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import com.larissafalcao.eventhub_api.dto.response.RestPage;
+import com.larissafalcao.eventhub_api.event.EventCapacityChangedEvent;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Caches events one entry per id and listing pages as the ids they contain, so updating an event refreshes a
+ * single entry instead of every cached page.
+ * <p>
+ * Page keys embed a generation token per sort property. An update only replaces the tokens of the properties
+ * whose value changed, so pages sorted by other properties keep their entries; creating or deleting an event
+ * changes membership and totals everywhere and replaces the global token. Unsorted pages have their own token,
+ * replaced on every update because the database does not guarantee their order across row updates. Tokens live in
+ * their own cache without a TTL, so they only change when evicted; an expiring token would move every page under it
+ * to a new key at once and defeat the early refresh below.
+ * <p>
+ * Ticket sales evict the sold event, so every replica reloads its remaining capacity on the next read; pages resolve
+ * their events from the per-id cache and show the new value without being rebuilt. Sales do not touch the
+ * generation tokens either. Pages sorted by capacity add a time window to their key instead, so their order catches
+ * up with sales once per window however many tickets are sold.
+ * <p>
+ * Concurrent misses on the same key share one database load. Pages are also refreshed ahead of their TTL with
+ * probability growing as expiry approaches, scaled by how long the page took to load (XFetch), so a popular page
+ * is usually rebuilt by a single request while everyone else is still served the cached copy.
+ */
+@Component
+public class EventCache {
+
+    private static final String ALL_PAGES = "*";
+    private static final String UNSORTED = "unsorted";
+    private static final String CAPACITY = "capacity";
+    private static final String DATE = "date";
+    private static final String COUNT = "count";
+    private static final long UNKNOWN_TOTAL = -1;
+
+    private final CacheManager cacheManager;
+    private final EventRepository eventRepository;
+    private final double earlyRefreshBeta;
+    private final long capacityOrderRefreshMillis;
+    private final SingleFlight<Long, Optional<EventResponse>> eventLoads;
+    private final SingleFlight<String, IndexedEvents> pageLoads;
+    private final SingleFlight<String, Long> countLoads;
+    private final Counter eventMissCounter;
+    private final Counter pageMissCounter;
+    private final Counter pageEarlyRefreshCounter;
+
+    public EventCache(
+            CacheManager cacheManager,
+            EventRepository eventRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.events.early-refresh-beta:1.0}") double earlyRefreshBeta,
+            @Value("${cache.events.capacity-order-refresh:30s}") Duration capacityOrderRefresh) {
+        this.cacheManager = cacheManager;
+        this.eventRepository = eventRepository;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.capacityOrderRefreshMillis = Math.max(capacityOrderRefresh.toMillis(), 1);
+        this.eventLoads = new SingleFlight<>(loadCounter(meterRegistry, CacheConfig.EVENT_CACHE_NAME, "coalesced"));
+        this.pageLoads = new SingleFlight<>(loadCounter(meterRegistry, CacheConfig.EVENTS_CACHE_NAME, "coalesced"));
+        this.countLoads = new SingleFlight<>(loadCounter(meterRegistry, CacheConfig.EVENTS_CACHE_NAME, "coalesced"));
+        this.eventMissCounter = loadCounter(meterRegistry, CacheConfig.EVENT_CACHE_NAME, "miss");
+        this.pageMissCounter = loadCounter(meterRegistry, CacheConfig.EVENTS_CACHE_NAME, "miss");
+        this.pageEarlyRefreshCounter = loadCounter(meterRegistry, CacheConfig.EVENTS_CACHE_NAME, "early_refresh");
+    }
+
+    public Optional<EventResponse> getEvent(Long eventId) {
+        Cache events = eventsCache();
+        EventResponse cached = events.get(eventId, EventResponse.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return eventLoads.load(eventId, () -> {
+            eventMissCounter.increment();
+            Optional<EventResponse> loaded = eventRepository.findResponseById(eventId);
+            loaded.ifPresent(event -> events.put(eventId, event));
+            return loaded;
+        });
+    }
+
+    public RestPage<EventResponse> getPage(Pageable pageable) {
+        Cache pages = pagesCache();
+        String key = pageKey(pageable);
+        IndexedEvents page = getIndexed(pages, key, () -> eventRepository.findResponses(pageable));
+        return new RestPage<>(page.content(), pageable.getPageNumber(), pageable.getPageSize(), page.totalElements());
+    }
+
+    /**
+     * Same content as {@link #getPage}, but a miss runs only the slice query ({@code size + 1} rows, no count).
+     * The total comes from a count cached under the global generation, so it is exact and computed once per
+     * create or delete rather than once per page.
+     */
+    public RestPage<EventResponse> getSlice(Pageable pageable) {
+        Cache pages = pagesCache();
+        String key = "slice-" + pageKey(pageable);
+        IndexedEvents slice = getIndexed(pages, key, () -> eventRepository.findResponseSlice(pageable));
+        return new RestPage<>(slice.content(), pageable.getPageNumber(), pageable.getPageSize(), countEvents(pages));
+    }
+
+    /**
+     * Returns up to {@code size} events after the cursor in {@code (date, id)} order. The window is cached like a
+     * page, with one extra id to tell whether another window follows, and is keyed by the cursor itself, so a deep
+     * window costs the same as the first one.
+     */
+    public CursorPage<EventResponse> getWindow(EventCursor after, int size) {
+        Cache pages = pagesCache();
+        String key = windowKey(after, size);
+        IndexedEvents window = getIndexed(pages, key, () -> new SliceImpl<>(after == null
+                ? eventRepository.findFirstResponsesByDate(Limit.of(size + 1))
+                : eventRepository.findResponsesAfterByDate(after.date(), after.id(), Limit.of(size + 1))));
+
+        boolean hasNext = window.content().size() > size;
+        List<EventResponse> content = hasNext ? window.content().subList(0, size) : window.content();
+        return CursorPage.<EventResponse>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? EventCursor.after(content.getLast()).encode() : null)
+                .build();
+    }
+
+    public void eventCreated(EventResponse event) {
+        eventsCache().put(event.getId(), event);
+        invalidatePages(Set.of(ALL_PAGES));
+    }
+
+    /**
+     * Evicts before writing the new value: puts are not published, so only the eviction makes other replicas drop
+     * their local copy of the event.
+     */
+    public void eventUpdated(EventResponse before, EventResponse after) {
+        Cache events = eventsCache();
+        events.evict(after.getId());
+        events.put(after.getId(), after);
+        Set<String> affected = changedProperties(before, after);
+        affected.add(UNSORTED);
+        invalidatePages(affected);
+    }
+
+    public void eventDeleted(Long eventId) {
+        eventsCache().evict(eventId);
+        invalidatePages(Set.of(ALL_PAGES));
+    }
+
+    /**
+     * Runs inside the purchase transaction; the transaction-aware cache manager applies the eviction after commit.
+     */
+    @EventListener
+    public void onCapacityChanged(EventCapacityChangedEvent event) {
+        eventsCache().evict(event.eventId());
+    }
+
+    static Set<String> changedProperties(EventResponse before, EventResponse after) {
+        Set<String> changed = new LinkedHashSet<>();
+        if (!Objects.equals(before.getName(), after.getName())) {
+            changed.add("name");
+        }
+        if (!Objects.equals(before.getDate(), after.getDate())) {
+            changed.add(DATE);
+        }
+        if (!Objects.equals(before.getLocation(), after.getLocation())) {
+            changed.add("location");
+        }
+        if (!Objects.equals(before.getCapacity(), after.getCapacity())) {
+            changed.add(CAPACITY);
+        }
+        return changed;
+    }
+
+    private IndexedEvents getIndexed(Cache pages, String key, Supplier<Slice<EventResponse>> query) {
+        EventPageIndex index = pages.get(key, EventPageIndex.class);
+        if (index != null) {
+            List<EventResponse> content = resolve(index.eventIds());
+            if (content != null) {
+                if (!shouldRefreshEarly(index) || pageLoads.isLoading(key)) {
+                    return new IndexedEvents(content, index.totalElements());
+                }
+                return pageLoads.load(key, () -> {
+                    pageEarlyRefreshCounter.increment();
+                    return loadIndexed(pages, key, query);
+                });
+            }
+        }
+
+        return pageLoads.load(key, () -> {
+            pageMissCounter.increment();
+            return loadIndexed(pages, key, query);
+        });
+    }
+
+    private long countEvents(Cache pages) {
+        String key = COUNT + '@' + generation(ALL_PAGES);
+        Cache.ValueWrapper cached = pages.get(key);
+        if (cached != null && cached.get() instanceof Number count) {
+            return count.longValue();
+        }
+
+        return countLoads.load(key, () -> {
+            pageMissCounter.increment();
+            long count = eventRepository.count();
+            pages.put(key, count);
+            return count;
+        });
+    }
+
+    private IndexedEvents loadIndexed(Cache pages, String key, Supplier<Slice<EventResponse>> query) {
+        long loadedAt = System.currentTimeMillis();
+        long startedAt = System.nanoTime();
+        Slice<EventResponse> slice = query.get();
+        long loadMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        Cache events = eventsCache();
+        List<EventResponse> content = slice.getContent();
+        content.forEach(event -> events.put(event.getId(), event));
+        List<Long> eventIds = content.stream().map(EventResponse::getId).toList();
+        long totalElements = slice instanceof Page<EventResponse> page ? page.getTotalElements() : UNKNOWN_TOTAL;
+        pages.put(key, new EventPageIndex(eventIds, totalElements, loadedAt, loadMillis));
+        return new IndexedEvents(content, totalElements);
+    }
+
+    private boolean shouldRefreshEarly(EventPageIndex index) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double head = Math.max(index.loadMillis(), 1) * earlyRefreshBeta
+                * -Math.log(ThreadLocalRandom.current().nextDouble());
+        long expiresAt = index.loadedAtEpochMilli() + CacheConfig.DEFAULT_CACHE_TTL.toMillis();
+        return System.currentTimeMillis() + head >= expiresAt;
+    }
+
+    private List<EventResponse> resolve(List<Long> eventIds) {
+        Cache events = eventsCache();
+        Map<Long, EventResponse> resolved = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            EventResponse event = events.get(eventId, EventResponse.class);
+            if (event == null) {
+                missing.add(eventId);
+            } else {
+                resolved.put(eventId, event);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (EventResponse response : eventRepository.findResponsesByIdIn(missing)) {
+                events.put(response.getId(), response);
+                resolved.put(response.getId(), response);
+            }
+            if (resolved.size() < eventIds.size()) {
+                return null;
+            }
+        }
+        return eventIds.stream().map(resolved::get).toList();
+    }
+
+    private void invalidatePages(Set<String> properties) {
+        Cache generations = generationsCache();
+        properties.forEach(generations::evict);
+    }
+
+    private String pageKey(Pageable pageable) {
+        StringBuilder key = new StringBuilder()
+                .append(pageable.getPageNumber()).append('-')
+                .append(pageable.getPageSize()).append('-')
+                .append(pageable.getSort())
+                .append('@').append(generation(ALL_PAGES));
+        if (pageable.getSort().isUnsorted()) {
+            key.append('.').append(generation(UNSORTED));
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            key.append('.').append(generation(order.getProperty()));
+            if (CAPACITY.equals(order.getProperty())) {
+                key.append('-').append(System.currentTimeMillis() / capacityOrderRefreshMillis);
+            }
+        }
+        return key.toString();
+    }
+
+    private String windowKey(EventCursor after, int size) {
+        return "window-" + size + '-' + (after == null ? "start" : after.encode())
+                + '@' + generation(ALL_PAGES) + '.' + generation(DATE);
+    }
+
+    private String generation(String property) {
+        return generationsCache().get(property, () -> UUID.randomUUID().toString());
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String cacheName, String outcome) {
+        return Counter.builder("events.cache.loads")
+                .description("Database loads behind the event caches, and requests that joined a load in flight")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record IndexedEvents(List<EventResponse> content, long totalElements) {
+    }
+
+    private Cache pagesCache() {
+        return cacheManager.getCache(CacheConfig.EVENTS_CACHE_NAME);
+    }
+
+    private Cache generationsCache() {
+        return cacheManager.getCache(CacheConfig.EVENT_GENERATIONS_CACHE_NAME);
+    }
+
+    private Cache eventsCache() {
+        return cacheManager.getCache(CacheConfig.EVENT_CACHE_NAME);
+    }
+}
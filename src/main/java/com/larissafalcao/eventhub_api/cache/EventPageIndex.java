@@ -0,0 +1,11 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record EventPageIndex(
+        List<Long> eventIds,
+        long totalElements,
+        long loadedAtEpochMilli,
+        long loadMillis) implements Serializable {
+}
@@ -0,0 +1,78 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers that miss the same key share a single load. A successful load stays registered until
+ * the loading transaction completes, because the transaction-aware cache only stores the result after commit;
+ * callers arriving in that window get the loaded value instead of starting another query.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    SingleFlight(Counter coalescedCounter) {
+        this.coalescedCounter = coalescedCounter;
+    }
+
+    boolean isLoading(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            inFlight.remove(key, flight);
+            throw ex;
+        }
+        flight.complete(value);
+        releaseAfterCompletion(key, flight);
+        return value;
+    }
+
+    private void releaseAfterCompletion(K key, CompletableFuture<V> flight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlight.remove(key, flight);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                inFlight.remove(key, flight);
+            }
+        });
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps every Redis cache in a {@link TwoTierCache} and keeps the L1 tiers of all replicas consistent through
+ * Redis pub/sub. Messages published by this instance are ignored on receipt since it already updated its own L1.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager
+        implements MessageListener, CacheInvalidationPublisher {
+
+    public static final String INVALIDATION_CHANNEL = "eventhub:cache:invalidation";
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+    private static final String SEPARATOR = "\n";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+            RedisCacheManager remoteCacheManager,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            long localMaxSize,
+            Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        remoteCacheManager.initializeCaches();
+        return remoteCacheManager.getCacheNames().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return remoteCacheManager.getCache(name) == null ? null : createCache(name);
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        publish(String.join(SEPARATOR, instanceId, EVICT, cacheName, key));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, instanceId, CLEAR, cacheName));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = twoTierCaches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        return twoTierCaches.computeIfAbsent(name, cacheName -> {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                    .maximumSize(localMaxSize)
+                    .expireAfterWrite(localTtl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, localCache, cacheName + ".local");
+            return new TwoTierCache(cacheName, localCache, remoteCacheManager.getCache(cacheName), this);
+        });
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException ex) {
+            log.warn("Could not publish cache invalidation, other replicas keep their local copy until it expires", ex);
+        }
+    }
+}
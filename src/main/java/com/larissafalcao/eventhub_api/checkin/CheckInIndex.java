@@ -0,0 +1,91 @@
+package com.larissafalcao.eventhub_api.checkin;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Immutable, memory-mapped list of the tickets of one event: a fixed header followed by (ticket id, participant
+ * id) pairs sorted by ticket id. Lookups are a binary search with absolute reads on the mapping, so they
+ * allocate nothing and can run from any number of threads. The mapping is released by the garbage collector
+ * once nothing references the instance, which is what lets a newer version replace it while lookups are still
+ * running against it.
+ */
+public final class CheckInIndex {
+
+    public static final long NOT_FOUND = -1L;
+
+    static final int MAGIC = 0x43484B49;
+    static final int FORMAT_VERSION = 1;
+    static final int EVENT_ID_OFFSET = 8;
+    static final int VERSION_OFFSET = 16;
+    static final int SIZE_OFFSET = 24;
+    static final int HEADER_BYTES = 32;
+    static final int ENTRY_BYTES = 16;
+
+    private final MappedByteBuffer buffer;
+    private final long eventId;
+    private final long version;
+    private final int size;
+
+    private CheckInIndex(MappedByteBuffer buffer, long eventId, long version, int size) {
+        this.buffer = buffer;
+        this.eventId = eventId;
+        this.version = version;
+        this.size = size;
+    }
+
+    public static CheckInIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Not a check-in index: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Not a check-in index: " + path);
+            }
+            long size = buffer.getLong(SIZE_OFFSET);
+            if (size < 0 || fileSize != HEADER_BYTES + size * ENTRY_BYTES) {
+                throw new IOException("Truncated check-in index: " + path);
+            }
+            return new CheckInIndex(buffer, buffer.getLong(EVENT_ID_OFFSET), buffer.getLong(VERSION_OFFSET), (int) size);
+        }
+    }
+
+    /**
+     * Returns the participant holding the ticket, or {@link #NOT_FOUND} if the ticket is not valid for this
+     * event.
+     */
+    public long participantIdOf(long ticketId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = HEADER_BYTES + middle * ENTRY_BYTES;
+            long current = buffer.getLong(offset);
+            if (current < ticketId) {
+                low = middle + 1;
+            } else if (current > ticketId) {
+                high = middle - 1;
+            } else {
+                return buffer.getLong(offset + Long.BYTES);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
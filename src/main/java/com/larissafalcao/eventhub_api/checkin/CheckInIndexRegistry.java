@@ -0,0 +1,176 @@
+package com.larissafalcao.eventhub_api.checkin;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Active check-in index per event. Index files live in one directory as {@code event-<id>-<version>.idx}, and the
+ * activated version of each event is recorded in {@code event-<id>.active}. On startup that version is mapped again
+ * (or the newest {@code .idx} file when there is no pointer yet), so lookups and rollbacks survive a restart even if
+ * the database is unreachable. Activating a version swaps the reference atomically: lookups already running finish
+ * on the previous mapping. Besides the active version, the previous one (for rolling back) and any newer one are
+ * kept on disk; older ones are deleted.
+ * <p>
+ * A version can also be staged: it is written as {@code event-<id>-<version>.staged}, which startup ignores, and
+ * only becomes an {@code .idx} file when it is activated. Each event keeps at most one staged version.
+ */
+@Component
+public class CheckInIndexRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInIndexRegistry.class);
+    private static final Pattern INDEX_FILE = Pattern.compile("event-(\\d+)-(\\d+)\\.idx");
+    private static final Pattern STAGED_FILE = Pattern.compile("event-(\\d+)-(\\d+)\\.staged");
+    private static final Pattern ACTIVE_FILE = Pattern.compile("event-(\\d+)\\.active");
+
+    private final Path directory;
+    private final ConcurrentMap<Long, CheckInIndex> activeIndexes = new ConcurrentHashMap<>();
+
+    public CheckInIndexRegistry(@Value("${tickets.check-in.index.directory:check-in-index}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path pathOf(long eventId, long version) {
+        return directory.resolve("event-" + eventId + "-" + version + ".idx");
+    }
+
+    public Path stagedPathOf(long eventId, long version) {
+        return directory.resolve("event-" + eventId + "-" + version + ".staged");
+    }
+
+    public Path activePathOf(long eventId) {
+        return directory.resolve("event-" + eventId + ".active");
+    }
+
+    public CheckInIndex find(long eventId) {
+        return activeIndexes.get(eventId);
+    }
+
+    public Set<Long> activeEventIds() {
+        return Set.copyOf(activeIndexes.keySet());
+    }
+
+    /**
+     * Checks a staged version and drops any other version staged for the event, without changing the active one.
+     */
+    public CheckInIndex stage(long eventId, long version) throws IOException {
+        CheckInIndex index = open(stagedPathOf(eventId, version), eventId, version);
+        deleteFiles(eventId, STAGED_FILE, staged -> staged != version);
+        log.info("Staged check-in index version {} of event {} with {} tickets", version, eventId, index.getSize());
+        return index;
+    }
+
+    public CheckInIndex activate(long eventId, long version) throws IOException {
+        Path staged = stagedPathOf(eventId, version);
+        if (Files.exists(staged)) {
+            Files.move(staged, pathOf(eventId, version), StandardCopyOption.ATOMIC_MOVE);
+        }
+        CheckInIndex index = open(pathOf(eventId, version), eventId, version);
+        writeActiveVersion(eventId, version);
+        CheckInIndex previous = activeIndexes.put(eventId, index);
+        log.info("Activated check-in index version {} of event {} with {} tickets", version, eventId, index.getSize());
+        deleteStaleVersions(eventId, version, previous == null ? version : previous.getVersion());
+        return index;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveVersions() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Map<Long, Long> latestVersions = new HashMap<>();
+        Map<Long, Long> activeVersions = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "event-*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                Matcher index = INDEX_FILE.matcher(name);
+                Matcher active = ACTIVE_FILE.matcher(name);
+                if (index.matches()) {
+                    latestVersions.merge(Long.parseLong(index.group(1)), Long.parseLong(index.group(2)), Math::max);
+                } else if (active.matches()) {
+                    Long version = readActiveVersion(file);
+                    if (version != null) {
+                        activeVersions.put(Long.parseLong(active.group(1)), version);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not list check-in indexes in {}", directory, ex);
+            return;
+        }
+        latestVersions.putAll(activeVersions);
+        latestVersions.forEach((eventId, version) -> {
+            try {
+                activeIndexes.putIfAbsent(eventId, open(pathOf(eventId, version), eventId, version));
+            } catch (IOException ex) {
+                log.warn("Could not load check-in index version {} of event {}", version, eventId, ex);
+            }
+        });
+    }
+
+    private void writeActiveVersion(long eventId, long version) throws IOException {
+        Path pointer = activePathOf(eventId);
+        Path temporary = directory.resolve(pointer.getFileName() + ".tmp");
+        Files.writeString(temporary, Long.toString(version), StandardCharsets.US_ASCII);
+        Files.move(temporary, pointer, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Long readActiveVersion(Path pointer) {
+        try {
+            return Long.parseLong(Files.readString(pointer, StandardCharsets.US_ASCII).trim());
+        } catch (IOException | NumberFormatException ex) {
+            log.warn("Could not read the active check-in index version from {}", pointer, ex);
+            return null;
+        }
+    }
+
+    private static CheckInIndex open(Path path, long eventId, long version) throws IOException {
+        CheckInIndex index = CheckInIndex.open(path);
+        if (index.getEventId() != eventId || index.getVersion() != version) {
+            throw new IOException("Check-in index " + path + " belongs to event "
+                    + index.getEventId() + " version " + index.getVersion());
+        }
+        return index;
+    }
+
+    private void deleteStaleVersions(long eventId, long activeVersion, long previousVersion) {
+        deleteFiles(eventId, INDEX_FILE, version -> version < activeVersion && version != previousVersion);
+        deleteFiles(eventId, STAGED_FILE, version -> version < activeVersion);
+    }
+
+    private void deleteFiles(long eventId, Pattern pattern, LongPredicate stale) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "event-" + eventId + "-*")) {
+            for (Path file : files) {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) == eventId
+                        && stale.test(Long.parseLong(matcher.group(2)))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Could not delete stale check-in indexes of event {}", eventId, ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.larissafalcao.eventhub_api.checkin;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a {@link CheckInIndex} file from tickets handed over in ascending id order, so the file can be built
+ * straight from a database cursor without sorting or holding the tickets in memory. The entry count is only
+ * known at the end and is written into the header by {@link #finish()}.
+ */
+public final class CheckInIndexWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long size;
+    private long lastTicketId = Long.MIN_VALUE;
+
+    public CheckInIndexWriter(Path path, long eventId, long version) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(CheckInIndex.MAGIC)
+                .putInt(CheckInIndex.FORMAT_VERSION)
+                .putLong(eventId)
+                .putLong(version)
+                .putLong(0L);
+    }
+
+    public void add(long ticketId, long participantId) throws IOException {
+        if (ticketId <= lastTicketId) {
+            throw new IllegalStateException("Ticket ids must be added in ascending order: " + ticketId);
+        }
+        if (buffer.remaining() < CheckInIndex.ENTRY_BYTES) {
+            drain();
+        }
+        buffer.putLong(ticketId).putLong(participantId);
+        lastTicketId = ticketId;
+        size++;
+    }
+
+    /**
+     * Writes the remaining entries and the final count, and forces the file to disk.
+     */
+    public long finish() throws IOException {
+        drain();
+        buffer.putLong(size).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, CheckInIndex.SIZE_OFFSET + buffer.position());
+        }
+        buffer.clear();
+        channel.force(true);
+        return size;
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,11 +1,18 @@
 package com.larissafalcao.eventhub_api.config;
 
+import com.larissafalcao.eventhub_api.cache.CompactCacheSerializer;
+import com.larissafalcao.eventhub_api.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
@@ -16,19 +23,54 @@ import java.time.Duration;
 public class CacheConfig {
 
     public static final String EVENTS_CACHE_NAME = "events";
-    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(10);
+    public static final String EVENT_CACHE_NAME = "event";
+    public static final String EVENT_GENERATIONS_CACHE_NAME = "event-generations";
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(10);
+    private static final String BINARY_SERIALIZER = "binary";
 
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${cache.local.max-size:1000}") long localMaxSize,
+            @Value("${cache.local.ttl:30s}") Duration localTtl,
+            @Value("${cache.serializer:json}") String serializer,
+            @Value("${cache.compression-threshold:512}") int compressionThreshold) {
         RedisCacheConfiguration defaultCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(DEFAULT_CACHE_TTL)
-                .disableCachingNullValues()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.json()));
+                .disableCachingNullValues();
+        if (BINARY_SERIALIZER.equals(serializer)) {
+            defaultCacheConfiguration = defaultCacheConfiguration
+                    .computePrefixWith(cacheName -> cacheName + ":" + BINARY_SERIALIZER + "::")
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                            new CompactCacheSerializer(RedisSerializer.json(), compressionThreshold)));
+        } else {
+            defaultCacheConfiguration = defaultCacheConfiguration
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                            RedisSerializer.json()));
+        }
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfiguration)
                 .withCacheConfiguration(EVENTS_CACHE_NAME, defaultCacheConfiguration)
-                .transactionAware()
+                .withCacheConfiguration(EVENT_CACHE_NAME, defaultCacheConfiguration)
+                .withCacheConfiguration(EVENT_GENERATIONS_CACHE_NAME, defaultCacheConfiguration.entryTtl(Duration.ZERO))
                 .build();
+
+        TwoTierCacheManager cacheManager =
+                new TwoTierCacheManager(redisCacheManager, redisTemplate, meterRegistry, localMaxSize, localTtl);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
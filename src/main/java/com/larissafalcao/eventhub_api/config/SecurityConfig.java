@@ -56,19 +56,33 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/auth/admin/register")
                         .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/auth/logout")
+                        .authenticated()
                         .requestMatchers(
                                 "/auth/**",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
+                                "/actuator/health",
                                 "/error")
                         .permitAll()
+                        .requestMatchers("/actuator/**")
+                        .hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/events/*/attendees", "/events/*/check-in/*")
+                        .hasRole("ADMIN")
+                        .requestMatchers(
+                                HttpMethod.POST, "/events/*/check-in-index", "/events/*/check-in-index/*/activate")
+                        .hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/events", "/events/*")
                         .permitAll()
                         .requestMatchers(HttpMethod.POST, "/events/*/tickets")
                         .hasRole("USER")
+                        .requestMatchers(HttpMethod.POST, "/tickets/bulk")
+                        .hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/participant/tickets")
                         .hasRole("USER")
+                        .requestMatchers(HttpMethod.POST, "/participants/import")
+                        .hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/participants")
                         .authenticated()
                         .requestMatchers(HttpMethod.POST, "/events")
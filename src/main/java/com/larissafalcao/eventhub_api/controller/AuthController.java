@@ -3,10 +3,12 @@ package com.larissafalcao.eventhub_api.controller;
 import com.larissafalcao.eventhub_api.dto.request.LoginRequest;
 import com.larissafalcao.eventhub_api.dto.request.RegisterRequest;
 import com.larissafalcao.eventhub_api.dto.response.AuthResponse;
+import com.larissafalcao.eventhub_api.entity.User;
 import com.larissafalcao.eventhub_api.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -42,4 +44,11 @@ public class AuthController implements AuthControllerDocs {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/logout")
+    @Override
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal User authenticatedUser) {
+        authService.logout(authenticatedUser);
+        return ResponseEntity.noContent().build();
+    }
 }
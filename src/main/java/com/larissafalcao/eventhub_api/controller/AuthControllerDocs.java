@@ -3,6 +3,7 @@ package com.larissafalcao.eventhub_api.controller;
 import com.larissafalcao.eventhub_api.dto.request.LoginRequest;
 import com.larissafalcao.eventhub_api.dto.request.RegisterRequest;
 import com.larissafalcao.eventhub_api.dto.response.AuthResponse;
+import com.larissafalcao.eventhub_api.entity.User;
 import com.larissafalcao.eventhub_api.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 @Tag(name = "Authentication", description = "Endpoints for user registration and login")
 public interface AuthControllerDocs {
@@ -46,4 +48,11 @@ public interface AuthControllerDocs {
     @ApiResponse(responseCode = "401", description = "Invalid credentials",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     ResponseEntity<AuthResponse> login(LoginRequest request);
+
+    @Operation(summary = "Logout", description = "Revokes every token issued to the authenticated user so far")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponse(responseCode = "204", description = "Tokens revoked")
+    @ApiResponse(responseCode = "401", description = "Authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<Void> logout(@AuthenticationPrincipal User authenticatedUser);
 }
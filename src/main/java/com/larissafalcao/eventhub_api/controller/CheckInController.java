@@ -0,0 +1,47 @@
+package com.larissafalcao.eventhub_api.controller;
+
+import com.larissafalcao.eventhub_api.dto.response.CheckInIndexResponse;
+import com.larissafalcao.eventhub_api.dto.response.CheckInResponse;
+import com.larissafalcao.eventhub_api.service.CheckInService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/events/{eventId}")
+public class CheckInController implements CheckInControllerDocs {
+
+    private final CheckInService checkInService;
+
+    public CheckInController(CheckInService checkInService) {
+        this.checkInService = checkInService;
+    }
+
+    @PostMapping("/check-in-index")
+    @Override
+    public ResponseEntity<CheckInIndexResponse> rebuildIndex(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "true") boolean activate) throws IOException {
+        return ResponseEntity.ok(checkInService.rebuildIndex(eventId, activate));
+    }
+
+    @PostMapping("/check-in-index/{version}/activate")
+    @Override
+    public ResponseEntity<CheckInIndexResponse> activateIndex(
+            @PathVariable Long eventId,
+            @PathVariable long version) throws IOException {
+        return ResponseEntity.ok(checkInService.activateIndex(eventId, version));
+    }
+
+    @GetMapping("/check-in/{ticketId}")
+    @Override
+    public ResponseEntity<CheckInResponse> checkIn(@PathVariable Long eventId, @PathVariable Long ticketId) {
+        return ResponseEntity.ok(checkInService.checkIn(eventId, ticketId));
+    }
+}
@@ -0,0 +1,52 @@
+package com.larissafalcao.eventhub_api.controller;
+
+import com.larissafalcao.eventhub_api.dto.response.CheckInIndexResponse;
+import com.larissafalcao.eventhub_api.dto.response.CheckInResponse;
+import com.larissafalcao.eventhub_api.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+@Tag(name = "Check-in", description = "Endpoints for ticket validation at the venue door")
+public interface CheckInControllerDocs {
+
+    @Operation(summary = "Rebuild check-in index",
+            description = "Writes a new version of the event's check-in index from the tickets table and "
+                    + "activates it on this instance, or only stages it when activate is false")
+    @ApiResponse(responseCode = "200", description = "Index built and activated or staged",
+            content = @Content(schema = @Schema(implementation = CheckInIndexResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Event not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<CheckInIndexResponse> rebuildIndex(
+            @Parameter(description = "Event id", example = "1") Long eventId,
+            @Parameter(description = "Whether to swap to the new version right away", example = "true")
+            boolean activate) throws IOException;
+
+    @Operation(summary = "Activate check-in index version",
+            description = "Swaps this instance to a staged or previous index version present in the index directory")
+    @ApiResponse(responseCode = "200", description = "Index activated",
+            content = @Content(schema = @Schema(implementation = CheckInIndexResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Index version not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<CheckInIndexResponse> activateIndex(
+            @Parameter(description = "Event id", example = "1") Long eventId,
+            @Parameter(description = "Index version returned by the rebuild", example = "1767225600000")
+            long version) throws IOException;
+
+    @Operation(summary = "Check in ticket",
+            description = "Answers from the active check-in index whether the ticket is valid for the event, "
+                    + "without querying the database")
+    @ApiResponse(responseCode = "200", description = "Ticket checked",
+            content = @Content(schema = @Schema(implementation = CheckInResponse.class)))
+    @ApiResponse(responseCode = "404", description = "No check-in index loaded for the event",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<CheckInResponse> checkIn(
+            @Parameter(description = "Event id", example = "1") Long eventId,
+            @Parameter(description = "Ticket id", example = "1") Long ticketId);
+}
@@ -2,12 +2,18 @@ package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
 import com.larissafalcao.eventhub_api.dto.request.UpdateEventRequest;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import com.larissafalcao.eventhub_api.service.AttendeeExportFormat;
+import com.larissafalcao.eventhub_api.service.AttendeeExportService;
 import com.larissafalcao.eventhub_api.service.EventService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,17 +22,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
 @RestController
 @RequestMapping("/events")
 public class EventController implements EventControllerDocs {
 
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     private final EventService eventService;
+    private final AttendeeExportService attendeeExportService;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, AttendeeExportService attendeeExportService) {
         this.eventService = eventService;
+        this.attendeeExportService = attendeeExportService;
     }
 
     @PostMapping
@@ -38,8 +53,21 @@ public class EventController implements EventControllerDocs {
 
     @GetMapping
     @Override
-    public ResponseEntity<Page<EventResponse>> list(@ParameterObject Pageable pageable) {
-        Page<EventResponse> events = eventService.listEvents(pageable);
+    public ResponseEntity<Page<EventResponse>> list(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean slice) {
+        Page<EventResponse> events = slice
+                ? eventService.listEventsWithoutCount(pageable)
+                : eventService.listEvents(pageable);
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping("/scroll")
+    @Override
+    public ResponseEntity<CursorPage<EventResponse>> scroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<EventResponse> events = eventService.scrollEvents(cursor, size);
         return ResponseEntity.ok(events);
     }
 
@@ -65,4 +93,47 @@ public class EventController implements EventControllerDocs {
         eventService.deleteEvent(id);
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/{id}/attendees")
+    @Override
+    public void exportAttendees(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        AttendeeExportFormat format = AttendeeExportFormat.of(accept);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        attendeeExportService.exportAttendees(id, format, () -> {
+            response.setContentType(format.getMediaType().toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("event-" + id + "-attendees." + format.getExtension())
+                    .build()
+                    .toString());
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+            if (!gzip) {
+                return response.getOutputStream();
+            }
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE);
+        });
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int index = 1; index < parts.length; index++) {
+                if (parts[index].trim().matches("[qQ]=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
@@ -2,6 +2,8 @@ package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
 import com.larissafalcao.eventhub_api.dto.request.UpdateEventRequest;
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,10 +12,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+
 @Tag(name = "Events", description = "Endpoints for event management")
 public interface EventControllerDocs {
 
@@ -26,7 +32,20 @@ public interface EventControllerDocs {
 
     @Operation(summary = "List events", description = "Returns a paginated list of events")
     @ApiResponse(responseCode = "200", description = "Events returned successfully")
-    ResponseEntity<Page<EventResponse>> list(Pageable pageable);
+    ResponseEntity<Page<EventResponse>> list(
+            Pageable pageable,
+            @Parameter(description = "Skip the per-page count query and take the total from a cached count")
+            boolean slice);
+
+    @Operation(summary = "Scroll events",
+            description = "Returns events ordered by date and id after the given cursor, without a total count")
+    @ApiResponse(responseCode = "200", description = "Events returned successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<CursorPage<EventResponse>> scroll(
+            @Parameter(description = "Continuation token from the previous response; omit for the first window")
+            String cursor,
+            @Parameter(description = "Window size, between 1 and 100", example = "20") int size);
 
     @Operation(summary = "Get event by id", description = "Returns event details by id")
     @ApiResponse(responseCode = "200", description = "Event found",
@@ -51,4 +70,25 @@ public interface EventControllerDocs {
     @ApiResponse(responseCode = "404", description = "Event not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     ResponseEntity<Void> delete(@Parameter(description = "Event id", example = "1") Long id);
+
+    @Operation(summary = "Export attendees",
+            description = "Streams every ticket of the event with the participant name and email, ordered by "
+                    + "participant id. Returns CSV unless the Accept header asks for application/x-ndjson, and is "
+                    + "gzip-compressed when the client sends Accept-Encoding: gzip.")
+    @ApiResponse(responseCode = "200", description = "Attendee list streamed",
+            content = {
+                    @Content(mediaType = "text/csv"),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = AttendeeResponse.class))})
+    @ApiResponse(responseCode = "401", description = "Authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Access denied",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Event not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    void exportAttendees(
+            @Parameter(description = "Event id", example = "1") Long id,
+            @Parameter(hidden = true) String accept,
+            @Parameter(hidden = true) String acceptEncoding,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
 }
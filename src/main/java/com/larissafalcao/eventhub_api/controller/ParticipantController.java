@@ -1,24 +1,43 @@
 package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.dto.response.ParticipantImportReport;
 import com.larissafalcao.eventhub_api.dto.response.ParticipantResponse;
+import com.larissafalcao.eventhub_api.service.ParticipantImportFormat;
+import com.larissafalcao.eventhub_api.service.ParticipantImportService;
 import com.larissafalcao.eventhub_api.service.ParticipantService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/participants")
 public class ParticipantController implements ParticipantControllerDocs {
 
     private final ParticipantService participantService;
+    private final ParticipantImportService participantImportService;
+    private final JsonMapper jsonMapper;
 
-    public ParticipantController(ParticipantService participantService) {
+    public ParticipantController(
+            ParticipantService participantService,
+            ParticipantImportService participantImportService,
+            JsonMapper jsonMapper) {
         this.participantService = participantService;
+        this.participantImportService = participantImportService;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -27,4 +46,24 @@ public class ParticipantController implements ParticipantControllerDocs {
         ParticipantResponse response = participantService.createParticipant(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    @PostMapping(
+            value = "/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, ParticipantImportFormat.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Override
+    public void importParticipants(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ServletOutputStream output = response.getOutputStream();
+        participantImportService.importParticipants(body, ParticipantImportFormat.of(contentType), report -> {
+            output.write(jsonMapper.writeValueAsBytes(report));
+            output.write('\n');
+            if (!ParticipantImportReport.ERROR.equals(report.getType())) {
+                output.flush();
+            }
+        });
+    }
 }
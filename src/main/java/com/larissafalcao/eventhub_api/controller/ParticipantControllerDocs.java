@@ -1,15 +1,24 @@
 package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.dto.response.ParticipantImportReport;
 import com.larissafalcao.eventhub_api.dto.response.ParticipantResponse;
 import com.larissafalcao.eventhub_api.exception.ErrorResponse;
+import com.larissafalcao.eventhub_api.service.ParticipantImportFormat;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @Tag(name = "Participants", description = "Endpoints for participant management")
 public interface ParticipantControllerDocs {
 
@@ -19,4 +28,27 @@ public interface ParticipantControllerDocs {
     @ApiResponse(responseCode = "400", description = "Validation error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     ResponseEntity<ParticipantResponse> create(CreateParticipantRequest request);
+
+    @Operation(summary = "Import participants",
+            description = "Upserts participants by email from an NDJSON body (one CreateParticipantRequest per line) "
+                    + "or a CSV body with a header containing name and email. Streams back one NDJSON line per "
+                    + "rejected row (type=error), one after each saved chunk (type=progress) and a final line "
+                    + "(type=summary, or type=aborted if the import stopped early).")
+    @ApiResponse(responseCode = "200", description = "Import processed; see the streamed report lines",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = ParticipantImportReport.class)))
+    @ApiResponse(responseCode = "401", description = "Authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Access denied",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "415", description = "Content type is neither application/x-ndjson nor text/csv",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    void importParticipants(
+            @Parameter(hidden = true) MediaType contentType,
+            @RequestBody(description = "NDJSON or CSV participants", required = true,
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                            @Content(mediaType = ParticipantImportFormat.TEXT_CSV_VALUE)})
+            InputStream body,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException;
 }
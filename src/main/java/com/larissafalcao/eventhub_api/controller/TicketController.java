@@ -1,14 +1,28 @@
 package com.larissafalcao.eventhub_api.controller;
 
+import com.larissafalcao.eventhub_api.dto.request.BulkTicketPurchaseItem;
+import com.larissafalcao.eventhub_api.dto.request.BulkTicketPurchaseRequest;
+import com.larissafalcao.eventhub_api.dto.response.BulkTicketPurchaseResponse;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
+import com.larissafalcao.eventhub_api.dto.response.TicketPurchaseResult;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.mapper.TicketMapper;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseCoordinator;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseItem;
 import com.larissafalcao.eventhub_api.service.TicketService;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 import java.util.List;
@@ -17,9 +31,16 @@ import java.util.List;
 public class TicketController implements TicketControllerDocs {
 
     private final TicketService ticketService;
+    private final TicketPurchaseCoordinator ticketPurchaseCoordinator;
+    private final TicketMapper ticketMapper;
 
-    public TicketController(TicketService ticketService) {
+    public TicketController(
+            TicketService ticketService,
+            TicketPurchaseCoordinator ticketPurchaseCoordinator,
+            TicketMapper ticketMapper) {
         this.ticketService = ticketService;
+        this.ticketPurchaseCoordinator = ticketPurchaseCoordinator;
+        this.ticketMapper = ticketMapper;
     }
 
     @PostMapping("/events/{eventId}/tickets")
@@ -27,14 +48,60 @@ public class TicketController implements TicketControllerDocs {
     public ResponseEntity<TicketResponse> purchaseTicket(
             @PathVariable Long eventId,
             @AuthenticationPrincipal User authenticatedUser) {
-        TicketResponse response = ticketService.purchaseTicket(eventId, authenticatedUser);
+        TicketResponse response = ticketPurchaseCoordinator.purchaseTicket(eventId, authenticatedUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/tickets/bulk")
+    @Override
+    public ResponseEntity<BulkTicketPurchaseResponse> purchaseTickets(
+            @Valid @RequestBody BulkTicketPurchaseRequest request,
+            @AuthenticationPrincipal User authenticatedUser) {
+        List<TicketPurchaseItem> items = request.getItems().stream()
+                .map(item -> new TicketPurchaseItem(item.getEventId(), resolveParticipantId(item, authenticatedUser)))
+                .toList();
+        List<TicketPurchaseResult> results = ticketService.purchaseTickets(items, request.isAtomic()).stream()
+                .map(ticketMapper::toResult)
+                .toList();
+
+        int failed = (int) results.stream().filter(result -> result.getErrorCode() != null).count();
+        BulkTicketPurchaseResponse response = BulkTicketPurchaseResponse.builder()
+                .purchased(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+        return ResponseEntity.status(failed == 0 ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Users can only buy for themselves; only administrators may name another participant. Checked before
+     * anything is looked up, so the per-item outcomes cannot be used to probe other participants.
+     */
+    private static Long resolveParticipantId(BulkTicketPurchaseItem item, User authenticatedUser) {
+        Long ownParticipantId = authenticatedUser.getParticipant() == null
+                ? null
+                : authenticatedUser.getParticipant().getId();
+        Long participantId = item.getParticipantId();
+        if (participantId == null) {
+            if (ownParticipantId == null) {
+                throw new AccessDeniedException("A participant id is required for users without a participant profile");
+            }
+            return ownParticipantId;
+        }
+        if (authenticatedUser.getRole() != Role.ADMIN && !participantId.equals(ownParticipantId)) {
+            throw new AccessDeniedException("Only administrators can purchase tickets for other participants");
+        }
+        return participantId;
+    }
+
     @GetMapping("/participant/tickets")
     @Override
-    public ResponseEntity<List<TicketResponse>> listMyTickets(@AuthenticationPrincipal User authenticatedUser) {
-        List<TicketResponse> response = ticketService.listTicketsByAuthenticatedUser(authenticatedUser);
+    public ResponseEntity<CursorPage<TicketHistoryResponse>> listMyTickets(
+            @AuthenticationPrincipal User authenticatedUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<TicketHistoryResponse> response =
+                ticketService.listTicketsByAuthenticatedUser(authenticatedUser, cursor, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -1,11 +1,14 @@
 package com.larissafalcao.eventhub_api.controller;
 
+import com.larissafalcao.eventhub_api.dto.request.BulkTicketPurchaseRequest;
+import com.larissafalcao.eventhub_api.dto.response.BulkTicketPurchaseResponse;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
 import com.larissafalcao.eventhub_api.entity.User;
 import com.larissafalcao.eventhub_api.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,7 +16,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
-import java.util.List;
 
 @Tag(name = "Tickets", description = "Endpoints for ticket purchase and listing")
 public interface TicketControllerDocs {
@@ -27,6 +29,10 @@ public interface TicketControllerDocs {
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "409", description = "Event capacity reached or duplicate ticket",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Too many concurrent purchases for the event",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "503", description = "Batched purchase did not complete in time",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "Authentication required",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Access denied",
@@ -35,14 +41,42 @@ public interface TicketControllerDocs {
             @Parameter(description = "Event id", example = "1") Long eventId,
             @AuthenticationPrincipal User authenticatedUser);
 
-    @Operation(summary = "List authenticated user tickets", description = "Returns all tickets from the authenticated user")
-    @ApiResponse(responseCode = "200", description = "Tickets returned successfully",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TicketResponse.class))))
+    @Operation(summary = "Purchase tickets in bulk",
+            description = "Purchases tickets for several participants and events in one transaction. Items without "
+                    + "a participant id are bought for the authenticated user; only administrators may name another "
+                    + "participant. With atomic=true the first failing item rejects the whole request; otherwise "
+                    + "each item reports its own result.")
+    @ApiResponse(responseCode = "201", description = "All tickets purchased successfully")
+    @ApiResponse(responseCode = "200", description = "Some items failed; see the result of each item")
+    @ApiResponse(responseCode = "400", description = "Invalid request",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "404", description = "Event or participant not found (atomic purchases only)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Event full or duplicate ticket (atomic purchases only)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "403", description = "Access denied, or a participant id other than the caller's "
+                    + "sent by a non-administrator",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    ResponseEntity<BulkTicketPurchaseResponse> purchaseTickets(
+            BulkTicketPurchaseRequest request,
+            @AuthenticationPrincipal User authenticatedUser);
+
+    @Operation(summary = "List authenticated user tickets",
+            description = "Returns the authenticated user's tickets, newest first, one window at a time")
+    @ApiResponse(responseCode = "200", description = "Tickets returned successfully")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Participant not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "401", description = "Authentication required",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "403", description = "Access denied",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
-    ResponseEntity<List<TicketResponse>> listMyTickets(@AuthenticationPrincipal User authenticatedUser);
+    ResponseEntity<CursorPage<TicketHistoryResponse>> listMyTickets(
+            @AuthenticationPrincipal User authenticatedUser,
+            @Parameter(description = "Continuation token from the previous response; omit for the first window")
+            String cursor,
+            @Parameter(description = "Window size, between 1 and 100", example = "20") int size);
 }
@@ -0,0 +1,29 @@
+package com.larissafalcao.eventhub_api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTicketPurchaseRequest {
+
+    @NotEmpty(message = "Items must not be empty")
+    @Size(max = 100, message = "At most 100 items can be purchased at once")
+    private List<@Valid BulkTicketPurchaseItem> items;
+
+    @JsonSetter(nulls = Nulls.AS_EMPTY)
+    private boolean atomic;
+}
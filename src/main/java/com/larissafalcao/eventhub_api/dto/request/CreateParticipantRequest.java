@@ -2,6 +2,7 @@ package com.larissafalcao.eventhub_api.dto.request;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,9 +17,11 @@ import lombok.Setter;
 public class CreateParticipantRequest {
 
     @NotBlank(message = "Participant name must not be blank")
+    @Size(max = 255, message = "Participant name must have at most 255 characters")
     private String name;
 
     @NotBlank(message = "Participant email must not be blank")
     @Email(message = "Participant email must be valid")
+    @Size(max = 255, message = "Participant email must have at most 255 characters")
     private String email;
 }
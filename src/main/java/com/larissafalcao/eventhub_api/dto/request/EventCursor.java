@@ -0,0 +1,42 @@
+package com.larissafalcao.eventhub_api.dto.request;
+
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import com.larissafalcao.eventhub_api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last event of a scroll window, in {@code (date, id)} order. Clients receive it as an opaque
+ * URL-safe token.
+ */
+public record EventCursor(LocalDate date, Long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static EventCursor after(EventResponse event) {
+        return new EventCursor(event.getDate(), event.getId());
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new EventCursor(
+                    LocalDate.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String value = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package com.larissafalcao.eventhub_api.dto.request;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
+import com.larissafalcao.eventhub_api.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last ticket of a history window, in {@code (purchasedAt, id)} descending order. Clients
+ * receive it as an opaque URL-safe token.
+ */
+public record TicketCursor(Instant purchasedAt, Long id) {
+
+    private static final char SEPARATOR = '/';
+
+    public static TicketCursor after(TicketHistoryResponse ticket) {
+        return new TicketCursor(ticket.getPurchasedAt(), ticket.getId());
+    }
+
+    public static TicketCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new TicketCursor(
+                    Instant.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String value = purchasedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendeeResponse {
+
+    private Long ticketId;
+    private Long participantId;
+    private String name;
+    private String email;
+    private Instant purchasedAt;
+}
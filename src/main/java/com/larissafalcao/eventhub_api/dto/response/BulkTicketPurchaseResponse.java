@@ -0,0 +1,21 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTicketPurchaseResponse {
+
+    private int purchased;
+    private int failed;
+    private List<TicketPurchaseResult> results;
+}
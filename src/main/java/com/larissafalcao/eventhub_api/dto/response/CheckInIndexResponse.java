@@ -0,0 +1,20 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInIndexResponse {
+
+    private Long eventId;
+    private Long version;
+    private Integer tickets;
+    private Boolean active;
+}
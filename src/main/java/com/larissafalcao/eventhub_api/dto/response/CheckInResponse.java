@@ -0,0 +1,21 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInResponse {
+
+    private Long eventId;
+    private Long ticketId;
+    private boolean valid;
+    private Long participantId;
+    private Long indexVersion;
+}
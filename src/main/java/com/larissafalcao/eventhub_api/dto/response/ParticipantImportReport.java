@@ -0,0 +1,34 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ParticipantImportReport {
+
+    public static final String ERROR = "error";
+    public static final String PROGRESS = "progress";
+    public static final String SUMMARY = "summary";
+    public static final String ABORTED = "aborted";
+
+    private String type;
+    private Long line;
+    private List<String> errors;
+    private Long rowsRead;
+    private Long inserted;
+    private Long updated;
+    private Long duplicates;
+    private Long failed;
+    private String message;
+}
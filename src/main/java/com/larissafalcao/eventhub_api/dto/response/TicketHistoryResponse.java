@@ -0,0 +1,24 @@
+package com.larissafalcao.eventhub_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketHistoryResponse {
+
+    private Long id;
+    private Long eventId;
+    private String eventName;
+    private LocalDate eventDate;
+    private Instant purchasedAt;
+}
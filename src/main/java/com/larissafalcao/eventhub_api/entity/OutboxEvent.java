@@ -0,0 +1,91 @@
+package com.larissafalcao.eventhub_api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_id_seq")
+    @SequenceGenerator(name = "outbox_events_id_seq", sequenceName = "outbox_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant availableAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private Instant deliveredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Builder
+    private OutboxEvent(Long id, String eventType, String payload, Instant createdAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.availableAt = createdAt;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public void markDelivered(Instant deliveredAt) {
+        this.attempts++;
+        this.deliveredAt = deliveredAt;
+        this.lastError = null;
+        this.status = OutboxStatus.DELIVERED;
+    }
+
+    public void markFailed(String error, Instant retryAt) {
+        this.attempts++;
+        this.availableAt = retryAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * Gives up on the row: it is no longer claimed and stays in the table for inspection.
+     */
+    public void markDead(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.status = OutboxStatus.FAILED;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
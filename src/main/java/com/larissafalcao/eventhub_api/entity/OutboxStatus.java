@@ -0,0 +1,7 @@
+package com.larissafalcao.eventhub_api.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
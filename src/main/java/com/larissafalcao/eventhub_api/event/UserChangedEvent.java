@@ -0,0 +1,4 @@
+package com.larissafalcao.eventhub_api.event;
+
+public record UserChangedEvent(String email) {
+}
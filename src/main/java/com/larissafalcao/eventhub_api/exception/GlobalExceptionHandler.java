@@ -5,10 +5,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,12 +23,16 @@ public class GlobalExceptionHandler {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     private static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+    private static final String INVALID_CURSOR = "INVALID_CURSOR";
+    private static final String UNSUPPORTED_MEDIA_TYPE = "UNSUPPORTED_MEDIA_TYPE";
     private static final String RESOURCE_NOT_FOUND = "RESOURCE_NOT_FOUND";
     private static final String EVENT_FULL = "EVENT_FULL";
     private static final String DUPLICATE_TICKET = "DUPLICATE_TICKET";
     private static final String EMAIL_ALREADY_EXISTS = "EMAIL_ALREADY_EXISTS";
     private static final String DATA_INTEGRITY_VIOLATION = "DATA_INTEGRITY_VIOLATION";
     private static final String LOCK_ACQUISITION_FAILURE = "LOCK_ACQUISITION_FAILURE";
+    private static final String PURCHASE_THROTTLED = "PURCHASE_THROTTLED";
+    private static final String PURCHASE_TIMEOUT = "PURCHASE_TIMEOUT";
     private static final String AUTHENTICATION_FAILED = "AUTHENTICATION_FAILED";
     private static final String ACCESS_DENIED = "ACCESS_DENIED";
     private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
@@ -64,6 +70,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorResponse response = ErrorResponse.of(INVALID_CURSOR, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
+        ErrorResponse response = ErrorResponse.of(UNSUPPORTED_MEDIA_TYPE, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
+    }
+
     @ExceptionHandler(InvalidDataAccessApiUsageException.class)
     public ResponseEntity<ErrorResponse> handleInvalidDataAccessApiUsage(InvalidDataAccessApiUsageException ex) {
         log.warn("Invalid data access usage: {}", ex.getMessage());
@@ -87,6 +105,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(PurchaseThrottledException.class)
+    public ResponseEntity<ErrorResponse> handlePurchaseThrottled(PurchaseThrottledException ex) {
+        ErrorResponse response = ErrorResponse.of(PURCHASE_THROTTLED, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(PurchaseTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handlePurchaseTimeout(PurchaseTimeoutException ex) {
+        ErrorResponse response = ErrorResponse.of(PURCHASE_TIMEOUT, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentials(BadCredentialsException ex) {
         ErrorResponse response = ErrorResponse.of(AUTHENTICATION_FAILED, "Invalid email or password");
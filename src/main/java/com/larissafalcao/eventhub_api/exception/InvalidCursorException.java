@@ -0,0 +1,8 @@
+package com.larissafalcao.eventhub_api.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid cursor: %s", cursor));
+    }
+}
@@ -0,0 +1,8 @@
+package com.larissafalcao.eventhub_api.exception;
+
+public class PurchaseThrottledException extends RuntimeException {
+
+    public PurchaseThrottledException(Long eventId) {
+        super(String.format("Too many concurrent purchases for event %d, please retry shortly", eventId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.larissafalcao.eventhub_api.exception;
+
+public class PurchaseTimeoutException extends RuntimeException {
+
+    public PurchaseTimeoutException(Long eventId) {
+        super(String.format("Purchase for event %d is taking too long, please retry shortly", eventId));
+    }
+}
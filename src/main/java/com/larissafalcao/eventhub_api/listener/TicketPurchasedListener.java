@@ -1,25 +1,51 @@
 package com.larissafalcao.eventhub_api.listener;
 
 import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationDispatcher;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationSender;
+import com.larissafalcao.eventhub_api.outbox.OutboxEventHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
+/**
+ * Sends ticket confirmations. Without the outbox they go through the in-memory dispatcher after commit. Relayed
+ * outbox rows are sent synchronously instead, so the row is only marked delivered once the sender succeeded and
+ * a failed send is retried by the relay rather than lost with the dispatcher's queue.
+ */
 @Component
-public class TicketPurchasedListener {
+public class TicketPurchasedListener implements OutboxEventHandler<TicketPurchasedEvent> {
+
+    private final TicketConfirmationDispatcher ticketConfirmationDispatcher;
+    private final TicketConfirmationSender ticketConfirmationSender;
+    private final boolean outboxEnabled;
 
-    private static final Logger log = LoggerFactory.getLogger(TicketPurchasedListener.class);
+    public TicketPurchasedListener(
+            TicketConfirmationDispatcher ticketConfirmationDispatcher,
+            TicketConfirmationSender ticketConfirmationSender,
+            @Value("${tickets.outbox.enabled:false}") boolean outboxEnabled) {
+        this.ticketConfirmationDispatcher = ticketConfirmationDispatcher;
+        this.ticketConfirmationSender = ticketConfirmationSender;
+        this.outboxEnabled = outboxEnabled;
+    }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onTicketPurchased(TicketPurchasedEvent event) {
-        log.info(
-                "[EMAIL] Confirmation sent to {} ({}) for event \"{}\" - Ticket #{} at {}",
-                event.participantName(),
-                event.participantEmail(),
-                event.eventName(),
-                event.ticketId(),
-                event.purchasedAt());
+        if (!outboxEnabled) {
+            ticketConfirmationDispatcher.enqueue(event);
+        }
+    }
+
+    @Override
+    public Class<TicketPurchasedEvent> eventType() {
+        return TicketPurchasedEvent.class;
+    }
+
+    @Override
+    public void handle(TicketPurchasedEvent event) {
+        ticketConfirmationSender.send(List.of(event));
     }
 }
@@ -1,7 +1,12 @@
 package com.larissafalcao.eventhub_api.mapper;
 
+import com.larissafalcao.eventhub_api.dto.response.TicketPurchaseResult;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
 import com.larissafalcao.eventhub_api.entity.Ticket;
+import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseOutcome;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,4 +20,24 @@ public class TicketMapper {
                 .purchasedAt(ticket.getPurchasedAt())
                 .build();
     }
+
+    public TicketPurchaseResult toResult(TicketPurchaseOutcome outcome) {
+        RuntimeException error = outcome.error();
+        return TicketPurchaseResult.builder()
+                .eventId(outcome.eventId())
+                .participantId(outcome.participantId())
+                .ticket(outcome.ticket())
+                .errorCode(error == null ? null : errorCode(error))
+                .errorMessage(error == null ? null : error.getMessage())
+                .build();
+    }
+
+    private static String errorCode(RuntimeException error) {
+        return switch (error) {
+            case EventFullException ignored -> "EVENT_FULL";
+            case DuplicateTicketException ignored -> "DUPLICATE_TICKET";
+            case ResourceNotFoundException ignored -> "RESOURCE_NOT_FOUND";
+            default -> "INTERNAL_ERROR";
+        };
+    }
 }
@@ -0,0 +1,27 @@
+package com.larissafalcao.eventhub_api.notification;
+
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class LoggingTicketConfirmationSender implements TicketConfirmationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingTicketConfirmationSender.class);
+
+    @Override
+    public void send(List<TicketPurchasedEvent> confirmations) {
+        for (TicketPurchasedEvent confirmation : confirmations) {
+            log.info(
+                    "[EMAIL] Confirmation sent to {} ({}) for event \"{}\" - Ticket #{} at {}",
+                    confirmation.participantName(),
+                    confirmation.participantEmail(),
+                    confirmation.eventName(),
+                    confirmation.ticketId(),
+                    confirmation.purchasedAt());
+        }
+    }
+}
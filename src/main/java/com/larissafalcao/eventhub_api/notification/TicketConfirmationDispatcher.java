@@ -0,0 +1,212 @@
+package com.larissafalcao.eventhub_api.notification;
+
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends ticket confirmations off the request thread. Confirmations wait in a bounded queue and a dedicated
+ * thread hands them to the {@link TicketConfirmationSender} in batches, retrying failed batches with
+ * exponential backoff. When the queue stays full for {@code enqueue-timeout}, the confirmation is dropped.
+ * <p>
+ * The dispatcher stops after the web server's graceful shutdown, so confirmations for requests that were still
+ * in flight are queued before it drains what is left.
+ */
+@Component
+public class TicketConfirmationDispatcher implements SmartLifecycle {
+
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Logger log = LoggerFactory.getLogger(TicketConfirmationDispatcher.class);
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final TicketConfirmationSender sender;
+    private final BlockingQueue<PendingConfirmation> queue;
+    private final int maxBatchSize;
+    private final long enqueueTimeoutNanos;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Timer dispatchLatencyTimer;
+    private final Counter droppedQueueFullCounter;
+    private final Counter droppedSendFailedCounter;
+    private final Counter droppedStoppedCounter;
+
+    private volatile boolean running;
+    private ExecutorService dispatchExecutor;
+
+    public TicketConfirmationDispatcher(
+            TicketConfirmationSender sender,
+            MeterRegistry meterRegistry,
+            @Value("${tickets.confirmation.queue-capacity:10000}") int queueCapacity,
+            @Value("${tickets.confirmation.batch-size:100}") int maxBatchSize,
+            @Value("${tickets.confirmation.enqueue-timeout:50ms}") Duration enqueueTimeout,
+            @Value("${tickets.confirmation.max-attempts:5}") int maxAttempts,
+            @Value("${tickets.confirmation.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${tickets.confirmation.max-backoff:5s}") Duration maxBackoff) {
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        Gauge.builder("tickets.confirmation.queue.depth", queue, BlockingQueue::size)
+                .description("Ticket confirmations waiting to be sent")
+                .register(meterRegistry);
+        this.dispatchLatencyTimer = Timer.builder("tickets.confirmation.dispatch.latency")
+                .description("Time from enqueueing a ticket confirmation until it was sent")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedQueueFullCounter = droppedCounter(meterRegistry, "queue_full");
+        this.droppedSendFailedCounter = droppedCounter(meterRegistry, "send_failed");
+        this.droppedStoppedCounter = droppedCounter(meterRegistry, "stopped");
+    }
+
+    public boolean enqueue(TicketPurchasedEvent confirmation) {
+        if (!running) {
+            droppedStoppedCounter.increment();
+            log.warn("Ticket confirmation #{} dropped: dispatcher is not running", confirmation.ticketId());
+            return false;
+        }
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(
+                    new PendingConfirmation(confirmation, System.nanoTime()),
+                    enqueueTimeoutNanos,
+                    TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            droppedQueueFullCounter.increment();
+            log.warn("Ticket confirmation #{} dropped: queue is full", confirmation.ticketId());
+        }
+        return accepted;
+    }
+
+    @Override
+    public void start() {
+        dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticket-confirmation-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        dispatchExecutor.execute(this::dispatchLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        dispatchExecutor.shutdown();
+        try {
+            dispatchExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        running = false;
+        dispatchExecutor.shutdown();
+        Thread.ofVirtual().name("ticket-confirmation-drain").start(() -> {
+            try {
+                dispatchExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void dispatchLoop() {
+        List<PendingConfirmation> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingConfirmation first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.warn("Ticket confirmation dispatcher interrupted with {} confirmations queued", queue.size());
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<PendingConfirmation> batch) throws InterruptedException {
+        List<TicketPurchasedEvent> confirmations = batch.stream()
+                .map(PendingConfirmation::confirmation)
+                .toList();
+
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sender.send(confirmations);
+                long sentAt = System.nanoTime();
+                batch.forEach(pending ->
+                        dispatchLatencyTimer.record(sentAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts) {
+                    droppedSendFailedCounter.increment(batch.size());
+                    log.error("Dropping {} ticket confirmations after {} attempts", batch.size(), attempt, ex);
+                    return;
+                }
+                log.warn("Sending {} ticket confirmations failed (attempt {}), retrying in {}",
+                        batch.size(), attempt, backoff, ex);
+                TimeUnit.NANOSECONDS.sleep(backoff.toNanos());
+                Duration nextBackoff = backoff.multipliedBy(2);
+                backoff = nextBackoff.compareTo(maxBackoff) > 0 ? maxBackoff : nextBackoff;
+            }
+        }
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("tickets.confirmation.dropped")
+                .description("Ticket confirmations that were never sent")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record PendingConfirmation(TicketPurchasedEvent confirmation, long enqueuedAt) {
+    }
+}
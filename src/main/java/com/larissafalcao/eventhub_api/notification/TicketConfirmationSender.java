@@ -0,0 +1,13 @@
+package com.larissafalcao.eventhub_api.notification;
+
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+
+import java.util.List;
+
+public interface TicketConfirmationSender {
+
+    /**
+     * Sends the confirmations as one batch. Throwing makes the dispatcher retry the whole batch.
+     */
+    void send(List<TicketPurchasedEvent> confirmations);
+}
@@ -0,0 +1,11 @@
+package com.larissafalcao.eventhub_api.outbox;
+
+public interface OutboxEventHandler<T> {
+
+    Class<T> eventType();
+
+    /**
+     * Handles an event relayed from the outbox. Throwing leaves the row pending so it is retried later.
+     */
+    void handle(T event);
+}
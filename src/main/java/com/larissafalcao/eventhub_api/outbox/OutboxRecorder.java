@@ -0,0 +1,40 @@
+package com.larissafalcao.eventhub_api.outbox;
+
+import com.larissafalcao.eventhub_api.entity.OutboxEvent;
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import com.larissafalcao.eventhub_api.repository.OutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(name = "tickets.outbox.enabled", havingValue = "true")
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxRecorder(OutboxEventRepository outboxEventRepository, JsonMapper jsonMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTicketPurchased(TicketPurchasedEvent event) {
+        record(event);
+    }
+
+    private void record(Object event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(event.getClass().getSimpleName())
+                .payload(jsonMapper.writeValueAsString(event))
+                .createdAt(Instant.now())
+                .build());
+    }
+}
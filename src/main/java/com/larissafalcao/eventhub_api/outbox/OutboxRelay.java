@@ -0,0 +1,137 @@
+package com.larissafalcao.eventhub_api.outbox;
+
+import com.larissafalcao.eventhub_api.entity.OutboxEvent;
+import com.larissafalcao.eventhub_api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox rows to the {@link OutboxEventHandler}s registered for their type. Each poll claims up to
+ * {@code batch-size} pending rows with {@code FOR UPDATE SKIP LOCKED}, so several instances can relay in
+ * parallel without handing the same row out twice. Rows whose handler fails are retried after a backoff that
+ * grows with the number of attempts; after {@code max-attempts} failures a row is marked {@code FAILED} and is no
+ * longer claimed.
+ */
+@Component
+@ConditionalOnProperty(name = "tickets.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_BACKOFF_MULTIPLIER = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, List<OutboxEventHandler<?>>> handlersByType;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxEventHandler<?>> handlers,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${tickets.outbox.batch-size:100}") int batchSize,
+            @Value("${tickets.outbox.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${tickets.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${tickets.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlersByType = handlers.stream()
+                .collect(Collectors.groupingBy(handler -> handler.eventType().getSimpleName()));
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.deliveredCounter = relayedCounter(meterRegistry, "delivered");
+        this.failedCounter = relayedCounter(meterRegistry, "failed");
+        this.deadCounter = relayedCounter(meterRegistry, "dead");
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.poll-interval:1s}")
+    public void relayPending() {
+        Integer claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> relayBatch());
+        } while (claimed != null && claimed == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.cleanup-interval:1h}")
+    public void deleteDelivered() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDeliveredBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} delivered outbox events", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.claimPending(Instant.now(), batchSize);
+        for (OutboxEvent outboxEvent : pending) {
+            try {
+                deliver(outboxEvent);
+                outboxEvent.markDelivered(Instant.now());
+                deliveredCounter.increment();
+            } catch (RuntimeException ex) {
+                fail(outboxEvent, ex);
+            }
+        }
+        return pending.size();
+    }
+
+    private void fail(OutboxEvent outboxEvent, RuntimeException ex) {
+        if (outboxEvent.getAttempts() + 1 >= maxAttempts) {
+            outboxEvent.markDead(ex.getMessage());
+            deadCounter.increment();
+            log.error("Giving up on outbox event #{} ({}) after {} attempts",
+                    outboxEvent.getId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), ex);
+            return;
+        }
+        int multiplier = Math.min(outboxEvent.getAttempts() + 1, MAX_BACKOFF_MULTIPLIER);
+        outboxEvent.markFailed(ex.getMessage(), Instant.now().plus(retryBackoff.multipliedBy(multiplier)));
+        failedCounter.increment();
+        log.warn("Relaying outbox event #{} ({}) failed on attempt {}",
+                outboxEvent.getId(), outboxEvent.getEventType(), outboxEvent.getAttempts(), ex);
+    }
+
+    private void deliver(OutboxEvent outboxEvent) {
+        List<OutboxEventHandler<?>> handlers = handlersByType.get(outboxEvent.getEventType());
+        if (handlers == null) {
+            throw new IllegalStateException("No outbox handler registered for " + outboxEvent.getEventType());
+        }
+        handlers.forEach(handler -> deliver(handler, outboxEvent.getPayload()));
+    }
+
+    private <T> void deliver(OutboxEventHandler<T> handler, String payload) {
+        handler.handle(jsonMapper.readValue(payload, handler.eventType()));
+    }
+
+    private static Counter relayedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("tickets.outbox.relayed")
+                .description("Outbox events handed to their handlers")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+
+import java.util.stream.Stream;
+
+public interface AttendeeExportRepository {
+
+    /**
+     * Streams the tickets of an event with the participant name and email, ordered by participant id. Rows are
+     * fetched from a server-side cursor in batches, so the stream must be consumed and closed inside a
+     * transaction.
+     */
+    Stream<AttendeeResponse> streamAttendeesByEventId(Long eventId);
+}
@@ -0,0 +1,46 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Reads attendees with plain JDBC instead of through the persistence context, so nothing is hydrated or kept
+ * per row. The PostgreSQL driver only honours the fetch size on a forward-only result set with autocommit off;
+ * otherwise it loads the whole result before returning the first row. Ordering by participant id lets the
+ * {@code (event_id, participant_id)} unique index return rows already sorted.
+ */
+class AttendeeExportRepositoryImpl implements AttendeeExportRepository {
+
+    private static final String ATTENDEES_SQL = """
+            SELECT t.id, p.id, p.name, p.email, t.purchased_at
+            FROM tickets t JOIN participants p ON p.id = t.participant_id
+            WHERE t.event_id = ?
+            ORDER BY t.participant_id
+            """;
+
+    private static final RowMapper<AttendeeResponse> ATTENDEE_MAPPER = (resultSet, rowNum) -> new AttendeeResponse(
+            resultSet.getLong(1),
+            resultSet.getLong(2),
+            resultSet.getString(3),
+            resultSet.getString(4),
+            resultSet.getObject(5, OffsetDateTime.class).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AttendeeExportRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${events.attendees.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public Stream<AttendeeResponse> streamAttendeesByEventId(Long eventId) {
+        return jdbcTemplate.queryForStream(ATTENDEES_SQL, ATTENDEE_MAPPER, eventId);
+    }
+}
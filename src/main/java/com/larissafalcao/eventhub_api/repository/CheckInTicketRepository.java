@@ -0,0 +1,16 @@
+package com.larissafalcao.eventhub_api.repository;
+
+public interface CheckInTicketRepository {
+
+    /**
+     * Hands every ticket of an event to the handler in ascending ticket id order, reading from a server-side
+     * cursor. Must be called inside a transaction.
+     */
+    void forEachTicketOfEvent(Long eventId, TicketRowHandler handler);
+
+    @FunctionalInterface
+    interface TicketRowHandler {
+
+        void accept(long ticketId, long participantId);
+    }
+}
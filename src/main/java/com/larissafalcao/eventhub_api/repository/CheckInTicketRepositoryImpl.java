@@ -0,0 +1,25 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class CheckInTicketRepositoryImpl implements CheckInTicketRepository {
+
+    private static final String TICKETS_SQL = "SELECT id, participant_id FROM tickets WHERE event_id = ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CheckInTicketRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${tickets.check-in.index.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void forEachTicketOfEvent(Long eventId, TicketRowHandler handler) {
+        RowCallbackHandler rowHandler = resultSet -> handler.accept(resultSet.getLong(1), resultSet.getLong(2));
+        jdbcTemplate.query(TICKETS_SQL, rowHandler, eventId);
+    }
+}
@@ -1,17 +1,70 @@
 package com.larissafalcao.eventhub_api.repository;
 
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.entity.Event;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /**
+     * Selects rows straight into {@link EventResponse}, so read paths skip entity hydration, persistence context
+     * registration and the mapper.
+     */
+    String EVENT_RESPONSE_QUERY = """
+            SELECT new com.larissafalcao.eventhub_api.dto.response.EventResponse(
+                event.id, event.name, event.date, event.location, event.capacity)
+            FROM Event event""";
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT event FROM Event event WHERE event.id = :id")
     Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT event.capacity FROM Event event WHERE event.id = :id")
+    Optional<Integer> findCapacityById(@Param("id") Long id);
+
+    /**
+     * Takes one seat and returns the updated row in the same statement; empty when the event is full or missing.
+     */
+    @Query(value = """
+            UPDATE events
+            SET capacity = capacity - 1
+            WHERE id = :id
+              AND capacity > 0
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Event> decrementCapacity(@Param("id") Long id);
+
+    @Query(value = EVENT_RESPONSE_QUERY, countQuery = "SELECT count(event) FROM Event event")
+    Page<EventResponse> findResponses(Pageable pageable);
+
+    @Query(EVENT_RESPONSE_QUERY)
+    Slice<EventResponse> findResponseSlice(Pageable pageable);
+
+    @Query(EVENT_RESPONSE_QUERY + " WHERE event.id = :id")
+    Optional<EventResponse> findResponseById(@Param("id") Long id);
+
+    @Query(EVENT_RESPONSE_QUERY + " WHERE event.id IN :ids")
+    List<EventResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(EVENT_RESPONSE_QUERY + " ORDER BY event.date, event.id")
+    List<EventResponse> findFirstResponsesByDate(Limit limit);
+
+    @Query(EVENT_RESPONSE_QUERY + " WHERE (event.date, event.id) > (:date, :id) ORDER BY event.date, event.id")
+    List<EventResponse> findResponsesAfterByDate(
+            @Param("date") LocalDate date,
+            @Param("id") Long id,
+            Limit limit);
 }
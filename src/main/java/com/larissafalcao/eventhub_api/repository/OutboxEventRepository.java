@@ -0,0 +1,28 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(value = """
+            SELECT *
+            FROM outbox_events
+            WHERE status = 'PENDING'
+              AND available_at <= :now
+            ORDER BY available_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimPending(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent outboxEvent WHERE outboxEvent.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("cutoff") Instant cutoff);
+}
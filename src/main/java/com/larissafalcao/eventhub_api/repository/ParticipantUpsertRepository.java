@@ -0,0 +1,14 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+
+import java.util.Collection;
+
+public interface ParticipantUpsertRepository {
+
+    /**
+     * Inserts the given participants in one statement, updating the name of those whose email already exists.
+     * Emails must be unique within the call. Existing rows whose name is unchanged are not rewritten.
+     */
+    ParticipantUpsertResult upsertByEmail(Collection<CreateParticipantRequest> participants);
+}
@@ -0,0 +1,80 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sends a whole chunk as three arrays that PostgreSQL unnests into rows, so an import costs two round trips
+ * per chunk: one for ids, one for the upsert. Ids are reserved the way Hibernate's pooled-lo optimizer does
+ * it, one {@code nextval} per block of {@link #ID_BLOCK_SIZE}, so they never collide with ids allocated by
+ * the application.
+ */
+class ParticipantUpsertRepositoryImpl implements ParticipantUpsertRepository {
+
+    /** Must match {@code INCREMENT BY} of {@code participants_id_seq} and the allocation size of {@code Participant}. */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('participants_id_seq') FROM generate_series(1, ?)";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO participants (id, name, email)
+            SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[])
+            ON CONFLICT (email) DO UPDATE SET name = EXCLUDED.name
+            WHERE participants.name IS DISTINCT FROM EXCLUDED.name
+            RETURNING (xmax = 0) AS inserted, email
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ParticipantUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ParticipantUpsertResult upsertByEmail(Collection<CreateParticipantRequest> participants) {
+        if (participants.isEmpty()) {
+            return ParticipantUpsertResult.EMPTY;
+        }
+
+        int blocks = (participants.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS_SQL, Long.class, blocks);
+        Long[] ids = new Long[participants.size()];
+        String[] names = new String[participants.size()];
+        String[] emails = new String[participants.size()];
+        int index = 0;
+        for (CreateParticipantRequest participant : participants) {
+            ids[index] = blockStarts.get(index / ID_BLOCK_SIZE) + index % ID_BLOCK_SIZE;
+            names[index] = participant.getName();
+            emails[index] = participant.getEmail();
+            index++;
+        }
+
+        PreparedStatementCreator upsert = connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            statement.setArray(2, connection.createArrayOf("varchar", names));
+            statement.setArray(3, connection.createArrayOf("varchar", emails));
+            return statement;
+        };
+        ParticipantUpsertResult result = jdbcTemplate.query(upsert, resultSet -> {
+            int inserted = 0;
+            List<String> renamedEmails = new ArrayList<>();
+            while (resultSet.next()) {
+                if (resultSet.getBoolean("inserted")) {
+                    inserted++;
+                } else {
+                    renamedEmails.add(resultSet.getString("email"));
+                }
+            }
+            return new ParticipantUpsertResult(inserted, renamedEmails);
+        });
+        return result == null ? ParticipantUpsertResult.EMPTY : result;
+    }
+}
@@ -0,0 +1,11 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import java.util.List;
+
+/**
+ * Outcome of one upsert: how many rows were inserted, and the emails of existing participants whose name changed.
+ */
+public record ParticipantUpsertResult(int inserted, List<String> renamedEmails) {
+
+    public static final ParticipantUpsertResult EMPTY = new ParticipantUpsertResult(0, List.of());
+}
@@ -1,15 +1,54 @@
 package com.larissafalcao.eventhub_api.repository;
 
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
 import com.larissafalcao.eventhub_api.entity.Ticket;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository
+        extends JpaRepository<Ticket, Long>, AttendeeExportRepository, CheckInTicketRepository {
+
+    /**
+     * Flat purchase history of a participant, joined with the event in the same query.
+     */
+    String TICKET_HISTORY_QUERY = """
+            SELECT new com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse(
+                ticket.id, event.id, event.name, event.date, ticket.purchasedAt)
+            FROM Ticket ticket JOIN ticket.event event
+            WHERE ticket.participant.id = :participantId""";
 
     long countByEventId(Long eventId);
 
     boolean existsByEventIdAndParticipantId(Long eventId, Long participantId);
 
-    List<Ticket> findByParticipantIdOrderByPurchasedAtDesc(Long participantId);
+    @Query(TICKET_HISTORY_QUERY + " ORDER BY ticket.purchasedAt DESC, ticket.id DESC")
+    List<TicketHistoryResponse> findFirstHistoryByParticipantId(
+            @Param("participantId") Long participantId,
+            Limit limit);
+
+    @Query(TICKET_HISTORY_QUERY
+            + " AND (ticket.purchasedAt, ticket.id) < (:purchasedAt, :id)"
+            + " ORDER BY ticket.purchasedAt DESC, ticket.id DESC")
+    List<TicketHistoryResponse> findHistoryByParticipantIdBefore(
+            @Param("participantId") Long participantId,
+            @Param("purchasedAt") Instant purchasedAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("SELECT ticket.participant.id FROM Ticket ticket WHERE ticket.event.id = :eventId")
+    List<Long> findParticipantIdsByEventId(@Param("eventId") Long eventId);
+
+    @Query("""
+            SELECT ticket.participant.id FROM Ticket ticket
+            WHERE ticket.event.id = :eventId AND ticket.participant.id IN :participantIds
+            """)
+    List<Long> findParticipantIdsByEventIdAndParticipantIdIn(
+            @Param("eventId") Long eventId,
+            @Param("participantIds") Collection<Long> participantIds);
 }
@@ -0,0 +1,36 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.strategy", havingValue = "conditional-update")
+public class ConditionalUpdateSeatReservation implements SeatReservationStrategy {
+
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+
+    private final EventRepository eventRepository;
+
+    public ConditionalUpdateSeatReservation(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public Event reserveSeat(Long eventId, Long participantId) {
+        Optional<Event> event = eventRepository.decrementCapacity(eventId);
+        if (event.isEmpty()) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId));
+            }
+            throw new EventFullException(eventId);
+        }
+
+        return event.get();
+    }
+}
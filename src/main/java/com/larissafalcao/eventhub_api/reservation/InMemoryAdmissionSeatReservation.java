@@ -0,0 +1,127 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission filter in front of the conditional update: the remaining seats of each event are kept in an atomic
+ * counter, so buyers of a sold-out event are rejected without touching the database. It does not take the seat
+ * write off the database. Every admitted buyer still runs the conditional {@code UPDATE} on {@code events} in the
+ * purchase transaction and holds the event row lock until commit, because the stored capacity is the only count
+ * shared by all replicas. Moving that write after commit would let replicas reload a stale capacity and oversell.
+ * <p>
+ * Counters are per JVM and are dropped whenever an event is modified. They are loaded outside the map's locks, so
+ * a slow capacity query never blocks purchases of other events. A counter that reached zero is checked against the
+ * database at most once per {@code tickets.purchase.in-memory.recheck-interval}, so seats released by another
+ * replica (a raised capacity, a refund) are picked up again.
+ */
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.strategy", havingValue = "in-memory")
+public class InMemoryAdmissionSeatReservation implements SeatReservationStrategy {
+
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+
+    private final EventRepository eventRepository;
+    private final long recheckIntervalNanos;
+    private final ConcurrentMap<Long, SeatCounter> remainingSeats = new ConcurrentHashMap<>();
+
+    public InMemoryAdmissionSeatReservation(
+            EventRepository eventRepository,
+            @Value("${tickets.purchase.in-memory.recheck-interval:5s}") Duration recheckInterval
+    ) {
+        this.eventRepository = eventRepository;
+        this.recheckIntervalNanos = recheckInterval.toNanos();
+    }
+
+    @Override
+    public Event reserveSeat(Long eventId, Long participantId) {
+        SeatCounter counter = counterOf(eventId);
+
+        if (!tryDecrement(counter.remaining())) {
+            counter = recheck(eventId, counter);
+            if (counter == null || !tryDecrement(counter.remaining())) {
+                throw new EventFullException(eventId);
+            }
+        }
+
+        releaseOnRollback(eventId, counter);
+
+        Optional<Event> event = eventRepository.decrementCapacity(eventId);
+        if (event.isEmpty()) {
+            remainingSeats.remove(eventId, counter);
+            throw new EventFullException(eventId);
+        }
+
+        return event.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventModified(EventModifiedEvent event) {
+        remainingSeats.remove(event.eventId());
+    }
+
+    private SeatCounter counterOf(Long eventId) {
+        SeatCounter counter = remainingSeats.get(eventId);
+        if (counter != null) {
+            return counter;
+        }
+        SeatCounter loaded = loadRemainingSeats(eventId);
+        SeatCounter existing = remainingSeats.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private SeatCounter recheck(Long eventId, SeatCounter counter) {
+        if (System.nanoTime() - counter.loadedAt() < recheckIntervalNanos) {
+            return null;
+        }
+        SeatCounter reloaded = loadRemainingSeats(eventId);
+        return remainingSeats.replace(eventId, counter, reloaded) ? reloaded : counterOf(eventId);
+    }
+
+    private SeatCounter loadRemainingSeats(Long eventId) {
+        Integer capacity = eventRepository.findCapacityById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId)));
+        return new SeatCounter(new AtomicInteger(capacity), System.nanoTime());
+    }
+
+    private void releaseOnRollback(Long eventId, SeatCounter counter) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && remainingSeats.get(eventId) == counter) {
+                    counter.remaining().incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private static boolean tryDecrement(AtomicInteger counter) {
+        int current;
+        do {
+            current = counter.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    private record SeatCounter(AtomicInteger remaining, long loadedAt) {
+    }
+}
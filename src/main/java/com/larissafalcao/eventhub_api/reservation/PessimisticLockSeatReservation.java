@@ -0,0 +1,35 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.strategy", havingValue = "pessimistic-lock", matchIfMissing = true)
+public class PessimisticLockSeatReservation implements SeatReservationStrategy {
+
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+
+    private final EventRepository eventRepository;
+
+    public PessimisticLockSeatReservation(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public Event reserveSeat(Long eventId, Long participantId) {
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId)));
+
+        if (event.getCapacity() <= 0) {
+            throw new EventFullException(eventId);
+        }
+
+        event.setCapacity(event.getCapacity() - 1);
+        eventRepository.save(event);
+        return event;
+    }
+}
@@ -0,0 +1,162 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
+import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shares the remaining seats and the participants holding a ticket of each event through Redis, so every
+ * replica rejects sold-out events and duplicate tickets with one atomic script call. The purchase transaction
+ * still confirms the seat with a conditional update on {@code events}, and a rollback gives it back in Redis.
+ * <p>
+ * Loading an event copies its participants into a private staging set with pipelined {@code SADD} batches, so no
+ * single command carries every participant, and then publishes the set and the counter with a short script.
+ */
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.strategy", havingValue = "redis")
+public class RedisSeatReservation implements SeatReservationStrategy {
+
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+
+    private static final long RESERVED = 1L;
+    private static final long SOLD_OUT = 0L;
+    private static final long DUPLICATE = -1L;
+    private static final long NOT_LOADED = -2L;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private static final RedisScript<Long> LOAD_SEATS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/load-seats.lua"), Long.class);
+    private static final RedisScript<Long> RESERVE_SEAT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reserve-seat.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SEAT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-seat.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final Duration keyTimeToLive;
+
+    public RedisSeatReservation(
+            StringRedisTemplate redisTemplate,
+            EventRepository eventRepository,
+            TicketRepository ticketRepository,
+            @Value("${tickets.purchase.redis.key-ttl:1h}") Duration keyTimeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.keyTimeToLive = keyTimeToLive;
+    }
+
+    @Override
+    public Event reserveSeat(Long eventId, Long participantId) {
+        long result = reserve(eventId, participantId);
+        if (result == NOT_LOADED) {
+            loadSeats(eventId);
+            result = reserve(eventId, participantId);
+        }
+
+        if (result == SOLD_OUT) {
+            throw new EventFullException(eventId);
+        }
+        if (result == DUPLICATE) {
+            throw new DuplicateTicketException(eventId, participantId);
+        }
+        if (result != RESERVED) {
+            throw new IllegalStateException("Seat inventory for event " + eventId + " could not be loaded");
+        }
+
+        releaseOnRollback(eventId, participantId);
+
+        Optional<Event> event = eventRepository.decrementCapacity(eventId);
+        if (event.isEmpty()) {
+            evict(eventId);
+            throw new EventFullException(eventId);
+        }
+
+        return event.get();
+    }
+
+    @Override
+    public boolean detectsDuplicates() {
+        return true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventModified(EventModifiedEvent event) {
+        evict(event.eventId());
+    }
+
+    private long reserve(Long eventId, Long participantId) {
+        Long result = redisTemplate.execute(RESERVE_SEAT_SCRIPT, keys(eventId), participantId.toString());
+        return result == null ? NOT_LOADED : result;
+    }
+
+    private void loadSeats(Long eventId) {
+        Integer capacity = eventRepository.findCapacityById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId)));
+        List<Long> participantIds = ticketRepository.findParticipantIdsByEventId(eventId);
+
+        String prefix = keyPrefix(eventId);
+        String stagingKey = prefix + "loading:" + UUID.randomUUID();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int from = 0; from < participantIds.size(); from += LOAD_CHUNK_SIZE) {
+                String[] chunk = participantIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, participantIds.size()))
+                        .stream()
+                        .map(String::valueOf)
+                        .toArray(String[]::new);
+                stringConnection.sAdd(stagingKey, chunk);
+            }
+            stringConnection.pExpire(stagingKey, keyTimeToLive.toMillis());
+            return null;
+        });
+
+        List<String> keys = List.of(prefix + "remaining", prefix + "participants", stagingKey);
+        redisTemplate.execute(LOAD_SEATS_SCRIPT, keys, capacity.toString(), Long.toString(keyTimeToLive.toMillis()));
+    }
+
+    private void releaseOnRollback(Long eventId, Long participantId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisTemplate.execute(RELEASE_SEAT_SCRIPT, keys(eventId), participantId.toString());
+                }
+            }
+        });
+    }
+
+    private void evict(Long eventId) {
+        redisTemplate.delete(keys(eventId));
+    }
+
+    private static List<String> keys(Long eventId) {
+        String prefix = keyPrefix(eventId);
+        return List.of(prefix + "remaining", prefix + "participants");
+    }
+
+    private static String keyPrefix(Long eventId) {
+        return "eventhub:seats:{" + eventId + "}:";
+    }
+}
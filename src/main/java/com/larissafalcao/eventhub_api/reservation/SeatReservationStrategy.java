@@ -0,0 +1,16 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+
+public interface SeatReservationStrategy {
+
+    /**
+     * Takes one seat of the given event inside the current transaction and returns the event with its
+     * remaining capacity already decremented. A rollback of the surrounding transaction gives the seat back.
+     */
+    Event reserveSeat(Long eventId, Long participantId);
+
+    default boolean detectsDuplicates() {
+        return false;
+    }
+}
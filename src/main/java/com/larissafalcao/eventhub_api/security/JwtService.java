@@ -1,6 +1,10 @@
 package com.larissafalcao.eventhub_api.security;
 
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Role;
+import com.larissafalcao.eventhub_api.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,68 +17,114 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    private final String secret;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String PARTICIPANT_ID_CLAIM = "pid";
+    public static final String NAME_CLAIM = "name";
+    /** Issue time in milliseconds; the standard {@code iat} claim only has whole seconds. */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final SecretKey signInKey;
+    private final JwtParser parser;
     private final long expirationInMillis;
 
     public JwtService(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expirationInMillis) {
-        this.secret = secret;
+        this.signInKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
         this.expirationInMillis = expirationInMillis;
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", userDetails.getAuthorities().stream()
+        claims.put(ROLE_CLAIM, userDetails.getAuthorities().stream()
                 .findFirst()
                 .map(Object::toString)
-                .orElse("ROLE_USER"));
+                .orElse(ROLE_PREFIX + Role.USER.name()));
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(NAME_CLAIM, user.getName());
+            if (user.getParticipant() != null) {
+                claims.put(PARTICIPANT_ID_CLAIM, user.getParticipant().getId());
+            }
+        }
         return generateToken(claims, userDetails);
     }
 
+    /**
+     * Verifies the token signature and expiration and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
+    }
+
+    /**
+     * Rebuilds the authenticated user from the token claims alone. Empty for tokens issued without the user claims.
+     */
+    public Optional<User> extractPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null || !role.startsWith(ROLE_PREFIX)) {
+            return Optional.empty();
+        }
+
+        String name = claims.get(NAME_CLAIM, String.class);
+        Long participantId = claims.get(PARTICIPANT_ID_CLAIM, Long.class);
+        return Optional.of(User.builder()
+                .id(userId)
+                .name(name)
+                .email(claims.getSubject())
+                .role(Role.valueOf(role.substring(ROLE_PREFIX.length())))
+                .participant(participantId == null ? null : Participant.builder()
+                        .id(participantId)
+                        .name(name)
+                        .email(claims.getSubject())
+                        .build())
+                .build());
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseToken(token));
     }
 
     private String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         Instant now = Instant.now();
         return Jwts.builder()
                 .claims(extraClaims)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli())
                 .subject(userDetails.getUsername())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plusMillis(expirationInMillis)))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
@@ -0,0 +1,64 @@
+package com.larissafalcao.eventhub_api.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-user revocation cut-off kept in memory: tokens issued at or before the cut-off are rejected. Entries are
+ * dropped once every token they could match has expired. Revocations are local to the instance.
+ * <p>
+ * Issue times are compared in milliseconds using the {@link JwtService#ISSUED_AT_MILLIS_CLAIM} claim, so a token
+ * issued right after a logout in the same second is not revoked. Tokens without that claim fall back to the
+ * whole-second {@code iat}.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final ConcurrentMap<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration tokenLifetime;
+
+    public TokenRevocationRegistry(@Value("${jwt.expiration:86400000}") long expirationInMillis) {
+        this.tokenLifetime = Duration.ofMillis(expirationInMillis);
+    }
+
+    public void revokeTokensIssuedBefore(Long userId, Instant cutoff) {
+        revokedBefore.merge(userId, cutoff.truncatedTo(ChronoUnit.MILLIS), (current, requested) -> requested.isAfter(current) ? requested : current);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (revokedBefore.isEmpty()) {
+            return false;
+        }
+        Long userId = claims.get(JwtService.USER_ID_CLAIM, Long.class);
+        Instant issuedAt = issuedAt(claims);
+        if (userId == null || issuedAt == null) {
+            return false;
+        }
+        Instant cutoff = revokedBefore.get(userId);
+        return cutoff != null && !issuedAt.isAfter(cutoff);
+    }
+
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(JwtService.ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.toInstant();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:10m}")
+    public void purgeExpired() {
+        Instant oldestLiveIssue = Instant.now().minus(tokenLifetime);
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(oldestLiveIssue));
+    }
+}
@@ -0,0 +1,56 @@
+package com.larissafalcao.eventhub_api.service;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+public enum AttendeeExportFormat {
+
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    AttendeeExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * NDJSON if the Accept header asks for it before text/csv, CSV otherwise (including a missing or
+     * unparseable header).
+     */
+    public static AttendeeExportFormat of(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return CSV;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return CSV;
+        }
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.isWildcardType() || acceptedType.isWildcardSubtype()) {
+                continue;
+            }
+            if (acceptedType.isCompatibleWith(NDJSON.mediaType)) {
+                return NDJSON;
+            }
+            if (acceptedType.isCompatibleWith(CSV.mediaType)) {
+                return CSV;
+            }
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,123 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the attendee list of an event as rows come off the database cursor, so heap use does not depend on
+ * the number of tickets. The read-only transaction stays open until the last row is written: it is what keeps
+ * the cursor alive.
+ */
+@Service
+public class AttendeeExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendeeExportService.class);
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+    static final String CSV_HEADER = "ticket_id,participant_id,name,email,purchased_at\r\n";
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final JsonMapper jsonMapper;
+
+    public AttendeeExportService(
+            EventRepository eventRepository,
+            TicketRepository ticketRepository,
+            JsonMapper jsonMapper) {
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Streams the attendees of an event to the target. The target is only opened once the event is known to
+     * exist and the query has started, so failures up to that point can still be answered with an error
+     * response.
+     */
+    @Transactional(readOnly = true)
+    public long exportAttendees(Long eventId, AttendeeExportFormat format, ExportTarget target) throws IOException {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId));
+        }
+
+        long rows = 0;
+        try (Stream<AttendeeResponse> attendees = ticketRepository.streamAttendeesByEventId(eventId);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(target.open(), StandardCharsets.UTF_8))) {
+            if (format == AttendeeExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+            }
+            Iterator<AttendeeResponse> iterator = attendees.iterator();
+            while (iterator.hasNext()) {
+                AttendeeResponse attendee = iterator.next();
+                if (format == AttendeeExportFormat.CSV) {
+                    writeCsv(writer, attendee);
+                } else {
+                    writer.write(jsonMapper.writeValueAsString(attendee));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+        log.info("Exported {} attendees of event {}", rows, eventId);
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, AttendeeResponse attendee) throws IOException {
+        writer.write(String.valueOf(attendee.getTicketId()));
+        writer.write(',');
+        writer.write(String.valueOf(attendee.getParticipantId()));
+        writer.write(',');
+        writer.write(csvField(attendee.getName()));
+        writer.write(',');
+        writer.write(csvField(attendee.getEmail()));
+        writer.write(',');
+        writer.write(attendee.getPurchasedAt().toString());
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a field per RFC 4180 when it contains a separator, a quote or a line break. A field that a spreadsheet
+     * would evaluate as a formula ({@code = + - @}, tab or carriage return first) is prefixed with {@code '}.
+     */
+    static String csvField(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String value = startsFormula(raw) ? "'" + raw : raw;
+        boolean needsQuotes = false;
+        for (int index = 0; index < value.length() && !needsQuotes; index++) {
+            char current = value.charAt(index);
+            needsQuotes = current == ',' || current == '"' || current == '\n' || current == '\r';
+        }
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static boolean startsFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    @FunctionalInterface
+    public interface ExportTarget {
+
+        OutputStream open() throws IOException;
+    }
+}
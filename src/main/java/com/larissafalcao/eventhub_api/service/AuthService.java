@@ -6,10 +6,13 @@ import com.larissafalcao.eventhub_api.dto.response.AuthResponse;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.event.UserChangedEvent;
 import com.larissafalcao.eventhub_api.exception.EmailAlreadyExistsException;
 import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
 import com.larissafalcao.eventhub_api.repository.UserRepository;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,6 +20,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Service
 public class AuthService {
 
@@ -25,18 +30,24 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public AuthService(
             UserRepository userRepository,
             ParticipantRepository participantRepository,
             PasswordEncoder passwordEncoder,
             AuthenticationManager authenticationManager,
-            JwtService jwtService) {
+            JwtService jwtService,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            ApplicationEventPublisher applicationEventPublisher) {
         this.userRepository = userRepository;
         this.participantRepository = participantRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Transactional
@@ -57,6 +68,7 @@ public class AuthService {
                 .role(Role.USER)
                 .participant(participant)
                 .build());
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
 
         return toAuthResponse(user);
     }
@@ -73,6 +85,7 @@ public class AuthService {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .role(Role.ADMIN)
                 .build());
+        applicationEventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
 
         return toAuthResponse(user);
     }
@@ -87,6 +100,10 @@ public class AuthService {
         return toAuthResponse(user);
     }
 
+    public void logout(User authenticatedUser) {
+        tokenRevocationRegistry.revokeTokensIssuedBefore(authenticatedUser.getId(), Instant.now());
+    }
+
     private AuthResponse toAuthResponse(User user) {
         return AuthResponse.builder()
                 .token(jwtService.generateToken(user))
@@ -0,0 +1,141 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.checkin.CheckInIndex;
+import com.larissafalcao.eventhub_api.checkin.CheckInIndexRegistry;
+import com.larissafalcao.eventhub_api.checkin.CheckInIndexWriter;
+import com.larissafalcao.eventhub_api.dto.response.CheckInIndexResponse;
+import com.larissafalcao.eventhub_api.dto.response.CheckInResponse;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Builds check-in index files from the tickets table and answers door scans from the active index, without
+ * touching the database. A new version is written to a temporary file and moved into place before it is
+ * activated or staged, so a failed build never replaces a working index. A staged version only serves scans once
+ * it is activated explicitly.
+ */
+@Service
+public class CheckInService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInService.class);
+    private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+    private static final String INDEX_NOT_LOADED = "No check-in index loaded for event with id: %d";
+    private static final String VERSION_NOT_FOUND = "Check-in index version %d not found for event with id: %d";
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final CheckInIndexRegistry checkInIndexRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CheckInService(
+            EventRepository eventRepository,
+            TicketRepository ticketRepository,
+            CheckInIndexRegistry checkInIndexRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.checkInIndexRegistry = checkInIndexRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public CheckInIndexResponse rebuildIndex(Long eventId, boolean activate) throws IOException {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId));
+        }
+
+        CheckInIndex current = checkInIndexRegistry.find(eventId);
+        long version = Math.max(System.currentTimeMillis(), current == null ? 0 : current.getVersion() + 1);
+        Path directory = Files.createDirectories(checkInIndexRegistry.getDirectory());
+        Path temporary = Files.createTempFile(directory, "event-" + eventId + "-", ".tmp");
+        try {
+            try (CheckInIndexWriter writer = new CheckInIndexWriter(temporary, eventId, version)) {
+                readOnlyTransaction.executeWithoutResult(status -> ticketRepository.forEachTicketOfEvent(
+                        eventId, (ticketId, participantId) -> add(writer, ticketId, participantId)));
+                writer.finish();
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            Path target = activate
+                    ? checkInIndexRegistry.pathOf(eventId, version)
+                    : checkInIndexRegistry.stagedPathOf(eventId, version);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return activate
+                ? toResponse(checkInIndexRegistry.activate(eventId, version), true)
+                : toResponse(checkInIndexRegistry.stage(eventId, version), false);
+    }
+
+    public CheckInIndexResponse activateIndex(Long eventId, long version) throws IOException {
+        try {
+            return toResponse(checkInIndexRegistry.activate(eventId, version), true);
+        } catch (NoSuchFileException ex) {
+            throw new ResourceNotFoundException(String.format(VERSION_NOT_FOUND, version, eventId));
+        }
+    }
+
+    public CheckInResponse checkIn(Long eventId, Long ticketId) {
+        CheckInIndex index = checkInIndexRegistry.find(eventId);
+        if (index == null) {
+            throw new ResourceNotFoundException(String.format(INDEX_NOT_LOADED, eventId));
+        }
+        long participantId = index.participantIdOf(ticketId);
+        boolean valid = participantId != CheckInIndex.NOT_FOUND;
+        return CheckInResponse.builder()
+                .eventId(eventId)
+                .ticketId(ticketId)
+                .valid(valid)
+                .participantId(valid ? participantId : null)
+                .indexVersion(index.getVersion())
+                .build();
+    }
+
+    /**
+     * Stages a fresh version of every index loaded on this instance without swapping to it, so the active version
+     * only changes through an explicit activation. A failed rebuild, for instance while the database is
+     * unreachable, leaves the previously staged version in place.
+     */
+    @Scheduled(fixedDelayString = "${tickets.check-in.index.refresh-interval:5m}")
+    public void stageIndexRefreshes() {
+        for (Long eventId : checkInIndexRegistry.activeEventIds()) {
+            try {
+                rebuildIndex(eventId, false);
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Could not refresh the check-in index of event {}", eventId, ex);
+            }
+        }
+    }
+
+    private static void add(CheckInIndexWriter writer, long ticketId, long participantId) {
+        try {
+            writer.add(ticketId, participantId);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static CheckInIndexResponse toResponse(CheckInIndex index, boolean active) {
+        return CheckInIndexResponse.builder()
+                .eventId(index.getEventId())
+                .version(index.getVersion())
+                .tickets(index.getSize())
+                .active(active)
+                .build();
+    }
+}
@@ -1,17 +1,18 @@
 package com.larissafalcao.eventhub_api.service;
 
-import com.larissafalcao.eventhub_api.config.CacheConfig;
+import com.larissafalcao.eventhub_api.cache.EventCache;
 import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
+import com.larissafalcao.eventhub_api.dto.request.EventCursor;
 import com.larissafalcao.eventhub_api.dto.request.UpdateEventRequest;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.dto.response.RestPage;
 import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
 import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
 import com.larissafalcao.eventhub_api.mapper.EventMapper;
 import com.larissafalcao.eventhub_api.repository.EventRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,52 +21,73 @@ import org.springframework.transaction.annotation.Transactional;
 public class EventService {
 
     private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
+    private static final int MAX_WINDOW_SIZE = 100;
 
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final EventCache eventCache;
 
-    public EventService(EventRepository eventRepository, EventMapper eventMapper) {
+    public EventService(
+            EventRepository eventRepository,
+            EventMapper eventMapper,
+            ApplicationEventPublisher applicationEventPublisher,
+            EventCache eventCache) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.eventCache = eventCache;
     }
 
-    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE_NAME, allEntries = true)
     @Transactional
     public EventResponse createEvent(CreateEventRequest request) {
         Event event = eventMapper.toEntity(request);
         Event saved = eventRepository.save(event);
-        return eventMapper.toResponse(saved);
+        EventResponse response = eventMapper.toResponse(saved);
+        eventCache.eventCreated(response);
+        return response;
     }
 
-    @Cacheable(
-            cacheNames = CacheConfig.EVENTS_CACHE_NAME,
-            key = "#pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString()")
     @Transactional(readOnly = true)
     public RestPage<EventResponse> listEvents(Pageable pageable) {
-        Page<EventResponse> page = eventRepository.findAll(pageable).map(eventMapper::toResponse);
-        return new RestPage<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+        return eventCache.getPage(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public RestPage<EventResponse> listEventsWithoutCount(Pageable pageable) {
+        return eventCache.getSlice(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<EventResponse> scrollEvents(String cursor, int size) {
+        EventCursor after = cursor == null || cursor.isBlank() ? null : EventCursor.decode(cursor);
+        return eventCache.getWindow(after, Math.clamp(size, 1, MAX_WINDOW_SIZE));
     }
 
     @Transactional(readOnly = true)
     public EventResponse getEventById(Long id) {
-        Event event = findEventById(id);
-        return eventMapper.toResponse(event);
+        return eventCache.getEvent(id)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, id)));
     }
 
-    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE_NAME, allEntries = true)
     @Transactional
     public EventResponse updateEvent(Long id, UpdateEventRequest request) {
         Event existingEvent = findEventById(id);
+        EventResponse before = eventMapper.toResponse(existingEvent);
         eventMapper.updateEntity(existingEvent, request);
         Event updated = eventRepository.save(existingEvent);
-        return eventMapper.toResponse(updated);
+        applicationEventPublisher.publishEvent(new EventModifiedEvent(id));
+        EventResponse response = eventMapper.toResponse(updated);
+        eventCache.eventUpdated(before, response);
+        return response;
     }
 
-    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE_NAME, allEntries = true)
     @Transactional
     public void deleteEvent(Long id) {
         Event event = findEventById(id);
         eventRepository.delete(event);
+        applicationEventPublisher.publishEvent(new EventModifiedEvent(id));
+        eventCache.eventDeleted(id);
     }
 
     private Event findEventById(Long id) {
@@ -0,0 +1,15 @@
+package com.larissafalcao.eventhub_api.service;
+
+import org.springframework.http.MediaType;
+
+public enum ParticipantImportFormat {
+
+    NDJSON,
+    CSV;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ParticipantImportFormat of(MediaType contentType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,289 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.dto.response.ParticipantImportReport;
+import com.larissafalcao.eventhub_api.event.UserChangedEvent;
+import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
+import com.larissafalcao.eventhub_api.repository.ParticipantUpsertResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Imports participants from an NDJSON or CSV body without holding more than one chunk in memory. Lines are
+ * read one at a time, validated like {@link CreateParticipantRequest}, and upserted by email every
+ * {@code chunk-size} valid rows. Row errors, progress after each chunk and a final summary are handed to the
+ * caller as they happen, so nothing grows with the size of the file. Chunks are written in their own
+ * statements: if the import aborts, the chunks reported as progress so far are kept.
+ * <p>
+ * A chunk holds one row per email; a later row for an email already in the chunk replaces it and is counted as a
+ * duplicate. Participants renamed by the upsert have their cached principal invalidated, since it carries the
+ * participant name.
+ */
+@Service
+public class ParticipantImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantImportService.class);
+    static final int MAX_LINE_LENGTH = 4096;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final ParticipantRepository participantRepository;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int chunkSize;
+
+    public ParticipantImportService(
+            ParticipantRepository participantRepository,
+            Validator validator,
+            JsonMapper jsonMapper,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${participants.import.chunk-size:1000}") int chunkSize) {
+        this.participantRepository = participantRepository;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public void importParticipants(InputStream body, ParticipantImportFormat format, ReportListener listener)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Progress progress = new Progress();
+        try {
+            RowParser parser = format == ParticipantImportFormat.CSV ? csvParser(reader, progress) : this::parseJson;
+            Map<String, CreateParticipantRequest> chunk = new LinkedHashMap<>();
+            String line;
+            while ((line = readLine(reader)) != null) {
+                progress.line++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.rowsRead++;
+                List<String> errors = new ArrayList<>();
+                CreateParticipantRequest request = line.length() > MAX_LINE_LENGTH
+                        ? reject(errors, "Line exceeds " + MAX_LINE_LENGTH + " characters")
+                        : parser.parse(line, errors);
+                if (request != null) {
+                    validate(request, errors);
+                }
+                if (!errors.isEmpty()) {
+                    progress.failed++;
+                    listener.onReport(ParticipantImportReport.builder()
+                            .type(ParticipantImportReport.ERROR)
+                            .line(progress.line)
+                            .errors(errors)
+                            .build());
+                    continue;
+                }
+
+                if (chunk.remove(request.getEmail()) != null) {
+                    progress.duplicates++;
+                }
+                chunk.put(request.getEmail(), request);
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, progress, listener);
+                }
+            }
+            flush(chunk, progress, listener);
+        } catch (MalformedImportException ex) {
+            listener.onReport(progress.report(ParticipantImportReport.ABORTED).message(ex.getMessage()).build());
+            return;
+        } catch (RuntimeException ex) {
+            log.error("Participant import aborted at line {}", progress.line, ex);
+            listener.onReport(progress.report(ParticipantImportReport.ABORTED)
+                    .message("Import aborted at line " + progress.line + "; rows reported as progress were saved")
+                    .build());
+            return;
+        }
+        listener.onReport(progress.report(ParticipantImportReport.SUMMARY).build());
+    }
+
+    private void flush(Map<String, CreateParticipantRequest> chunk, Progress progress, ReportListener listener)
+            throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        ParticipantUpsertResult result = participantRepository.upsertByEmail(chunk.values());
+        progress.inserted += result.inserted();
+        progress.updated += chunk.size() - result.inserted();
+        result.renamedEmails().forEach(email -> applicationEventPublisher.publishEvent(new UserChangedEvent(email)));
+        chunk.clear();
+        listener.onReport(progress.report(ParticipantImportReport.PROGRESS).build());
+    }
+
+    private CreateParticipantRequest parseJson(String line, List<String> errors) {
+        try {
+            CreateParticipantRequest request = jsonMapper.readValue(line, CreateParticipantRequest.class);
+            return request == null ? reject(errors, "Expected a JSON object") : request;
+        } catch (JacksonException ex) {
+            return reject(errors, "Malformed JSON");
+        }
+    }
+
+    private RowParser csvParser(BufferedReader reader, Progress progress) throws IOException {
+        String header = readLine(reader);
+        progress.line++;
+        if (header == null) {
+            throw new MalformedImportException("CSV body is empty");
+        }
+        if (!header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        List<String> columns = splitCsvLine(header);
+        List<String> normalized = columns == null ? List.of() : columns.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int nameColumn = normalized.indexOf("name");
+        int emailColumn = normalized.indexOf("email");
+        if (nameColumn < 0 || emailColumn < 0) {
+            throw new MalformedImportException("CSV header must contain name and email columns");
+        }
+
+        int requiredColumns = Math.max(nameColumn, emailColumn) + 1;
+        return (line, errors) -> {
+            List<String> fields = splitCsvLine(line);
+            if (fields == null) {
+                return reject(errors, "Malformed CSV: unterminated quote");
+            }
+            if (fields.size() < requiredColumns) {
+                return reject(errors, "Expected at least " + requiredColumns + " columns but found " + fields.size());
+            }
+            return CreateParticipantRequest.builder()
+                    .name(fields.get(nameColumn).trim())
+                    .email(fields.get(emailColumn).trim())
+                    .build();
+        };
+    }
+
+    private void validate(CreateParticipantRequest request, List<String> errors) {
+        validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(this::describe)
+                .forEach(errors::add);
+    }
+
+    private String describe(ConstraintViolation<CreateParticipantRequest> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static CreateParticipantRequest reject(List<String> errors, String error) {
+        errors.add(error);
+        return null;
+    }
+
+    /**
+     * Reads the next line without buffering more than {@link #MAX_LINE_LENGTH} characters of it. Longer lines
+     * are drained and returned truncated to one character past the limit, so the caller can reject them.
+     */
+    static String readLine(BufferedReader reader) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int next = reader.read();
+        if (next < 0) {
+            return null;
+        }
+        while (next >= 0 && next != '\n') {
+            if (line.length() <= MAX_LINE_LENGTH) {
+                line.append((char) next);
+            }
+            next = reader.read();
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Splits one CSV line (RFC 4180 quoting, without line breaks inside quoted fields). Returns {@code null} if
+     * a quoted field is not closed.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char current = line.charAt(index);
+            if (quoted) {
+                if (current != '"') {
+                    field.append(current);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    field.append('"');
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (current == '"') {
+                quoted = true;
+            } else if (current == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(current);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @FunctionalInterface
+    public interface ReportListener {
+
+        void onReport(ParticipantImportReport report) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+
+        CreateParticipantRequest parse(String line, List<String> errors);
+    }
+
+    private static final class MalformedImportException extends RuntimeException {
+
+        private MalformedImportException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Progress {
+
+        private long line;
+        private long rowsRead;
+        private long inserted;
+        private long updated;
+        private long duplicates;
+        private long failed;
+
+        private ParticipantImportReport.ParticipantImportReportBuilder report(String type) {
+            return ParticipantImportReport.builder()
+                    .type(type)
+                    .rowsRead(rowsRead)
+                    .inserted(inserted)
+                    .updated(updated)
+                    .duplicates(duplicates)
+                    .failed(failed);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.exception.PurchaseThrottledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounds how many purchases of the same event run at once, before they borrow a connection from the pool.
+ * Events are mapped onto a fixed number of stripes, each with its own semaphore and a bounded number of
+ * waiters; purchases beyond that fail fast with {@link PurchaseThrottledException}.
+ */
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.admission.enabled", havingValue = "true")
+public class PurchaseAdmissionLimiter {
+
+    private final Semaphore[] permits;
+    private final AtomicIntegerArray waiting;
+    private final int maxWaiting;
+    private final long maxWaitNanos;
+    private final Counter rejectedCounter;
+
+    public PurchaseAdmissionLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${tickets.purchase.admission.stripes:64}") int stripes,
+            @Value("${tickets.purchase.admission.max-concurrent-per-event:4}") int maxConcurrentPerEvent,
+            @Value("${tickets.purchase.admission.max-waiting-per-event:200}") int maxWaiting,
+            @Value("${tickets.purchase.admission.max-wait:2s}") Duration maxWait) {
+        this.permits = new Semaphore[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            permits[stripe] = new Semaphore(maxConcurrentPerEvent, true);
+        }
+        this.waiting = new AtomicIntegerArray(stripes);
+        this.maxWaiting = maxWaiting;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejectedCounter = Counter.builder("tickets.purchase.admission.rejected")
+                .description("Purchases rejected because too many were in flight for the same event")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Long eventId, Supplier<T> purchase) {
+        int stripe = Math.floorMod(Long.hashCode(eventId), permits.length);
+        acquire(eventId, stripe);
+        try {
+            return purchase.get();
+        } finally {
+            permits[stripe].release();
+        }
+    }
+
+    private void acquire(Long eventId, int stripe) {
+        if (permits[stripe].tryAcquire()) {
+            return;
+        }
+
+        boolean acquired = false;
+        if (waiting.incrementAndGet(stripe) <= maxWaiting) {
+            try {
+                acquired = permits[stripe].tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        waiting.decrementAndGet(stripe);
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            throw new PurchaseThrottledException(eventId);
+        }
+    }
+}
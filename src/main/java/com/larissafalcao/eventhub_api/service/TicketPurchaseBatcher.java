@@ -0,0 +1,206 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Queues purchases per event and drains them in micro-batches: a batch is flushed as soon as it reaches
+ * {@code max-size} purchases or {@code max-linger} has passed since its first purchase. At most one batch per
+ * event is in flight, so each event row is locked once per batch instead of once per purchase.
+ * <p>
+ * A drain task writes a single batch and, if purchases are still queued, resubmits the event behind the other
+ * events waiting for a thread, so a hot event cannot keep a thread to itself. Purchases whose caller stopped
+ * waiting (their future is already done) are dropped when the batch is built and again right before it is
+ * written. An event's queue is removed once it is drained and idle; queues are created, filled and removed inside
+ * the map's compute methods, so a purchase is never added to a queue that was already removed.
+ */
+@Component
+@ConditionalOnProperty(name = "tickets.purchase.batch.enabled", havingValue = "true")
+public class TicketPurchaseBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketPurchaseBatcher.class);
+
+    private final TicketService ticketService;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final ExecutorService drainExecutor;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+    private final ConcurrentMap<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    public TicketPurchaseBatcher(
+            TicketService ticketService,
+            MeterRegistry meterRegistry,
+            @Value("${tickets.purchase.batch.max-size:50}") int maxBatchSize,
+            @Value("${tickets.purchase.batch.max-linger:10ms}") Duration maxLinger,
+            @Value("${tickets.purchase.batch.max-concurrent-batches:4}") int maxConcurrentBatches) {
+        this.ticketService = ticketService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.drainExecutor = Executors.newFixedThreadPool(maxConcurrentBatches);
+        this.batchSizeSummary = DistributionSummary.builder("tickets.purchase.batch.size")
+                .description("Number of purchases written per batch")
+                .baseUnit("purchases")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxBatchSize)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("tickets.purchase.batch.duration")
+                .description("Time spent writing a purchase batch")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<TicketResponse> submit(Long eventId, Long participantId) {
+        PendingPurchase purchase = new PendingPurchase(participantId, new CompletableFuture<>());
+        EventQueue queue = queues.compute(eventId, (id, existing) -> {
+            EventQueue target = existing == null ? new EventQueue() : existing;
+            target.pending.add(purchase);
+            return target;
+        });
+        scheduleDrain(eventId, queue);
+        return purchase.result;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        drainExecutor.shutdown();
+        if (!drainExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Ticket purchase batches did not finish before shutdown");
+        }
+        queues.values().forEach(queue -> failAll(queue, new IllegalStateException("Ticket purchases are shutting down")));
+    }
+
+    private void scheduleDrain(Long eventId, EventQueue queue) {
+        if (!queue.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> drain(eventId, queue));
+        } catch (RejectedExecutionException ex) {
+            queue.draining.set(false);
+            failAll(queue, new IllegalStateException("Ticket purchases are shutting down", ex));
+        }
+    }
+
+    private void drain(Long eventId, EventQueue queue) {
+        List<PendingPurchase> batch = nextBatch(queue);
+        if (!batch.isEmpty()) {
+            process(eventId, batch);
+        }
+        queue.draining.set(false);
+        if (queue.pending.isEmpty()) {
+            queues.computeIfPresent(eventId, (id, existing) -> existing == queue && isIdle(queue) ? null : existing);
+        }
+        if (!queue.pending.isEmpty()) {
+            scheduleDrain(eventId, queue);
+        }
+    }
+
+    int queuedEventCount() {
+        return queues.size();
+    }
+
+    private static boolean isIdle(EventQueue queue) {
+        return queue.pending.isEmpty() && !queue.draining.get();
+    }
+
+    private List<PendingPurchase> nextBatch(EventQueue queue) {
+        List<PendingPurchase> batch = new ArrayList<>(maxBatchSize);
+        PendingPurchase first = nextWaiting(queue);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + maxLingerNanos;
+        try {
+            while (batch.size() < maxBatchSize) {
+                long remaining = deadline - System.nanoTime();
+                PendingPurchase next = remaining > 0
+                        ? queue.pending.poll(remaining, TimeUnit.NANOSECONDS)
+                        : queue.pending.poll();
+                if (next == null) {
+                    break;
+                }
+                if (!next.result().isDone()) {
+                    batch.add(next);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return batch;
+    }
+
+    private static PendingPurchase nextWaiting(EventQueue queue) {
+        PendingPurchase purchase = queue.pending.poll();
+        while (purchase != null && purchase.result().isDone()) {
+            purchase = queue.pending.poll();
+        }
+        return purchase;
+    }
+
+    private void process(Long eventId, List<PendingPurchase> batch) {
+        batch.removeIf(purchase -> purchase.result().isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        List<Long> participantIds = batch.stream()
+                .map(PendingPurchase::participantId)
+                .toList();
+        try {
+            List<TicketPurchaseOutcome> outcomes =
+                    batchTimer.record(() -> ticketService.purchaseTicketBatch(eventId, participantIds));
+            for (int index = 0; index < batch.size(); index++) {
+                TicketPurchaseOutcome outcome = outcomes.get(index);
+                CompletableFuture<TicketResponse> result = batch.get(index).result();
+                if (outcome.isSuccessful()) {
+                    result.complete(outcome.ticket());
+                } else {
+                    result.completeExceptionally(outcome.error());
+                }
+            }
+        } catch (RuntimeException ex) {
+            batch.forEach(purchase -> purchase.result().completeExceptionally(ex));
+        }
+    }
+
+    private static void failAll(EventQueue queue, RuntimeException error) {
+        PendingPurchase purchase;
+        while ((purchase = queue.pending.poll()) != null) {
+            purchase.result().completeExceptionally(error);
+        }
+    }
+
+    private record PendingPurchase(Long participantId, CompletableFuture<TicketResponse> result) {
+    }
+
+    private static final class EventQueue {
+
+        private final BlockingQueue<PendingPurchase> pending = new LinkedBlockingQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,62 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.exception.PurchaseTimeoutException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class TicketPurchaseCoordinator {
+
+    private final TicketService ticketService;
+    private final TicketPurchaseBatcher ticketPurchaseBatcher;
+    private final PurchaseAdmissionLimiter purchaseAdmissionLimiter;
+    private final long batchTimeoutNanos;
+
+    public TicketPurchaseCoordinator(
+            TicketService ticketService,
+            ObjectProvider<TicketPurchaseBatcher> ticketPurchaseBatcher,
+            ObjectProvider<PurchaseAdmissionLimiter> purchaseAdmissionLimiter,
+            @Value("${tickets.purchase.batch.timeout:5s}") Duration batchTimeout) {
+        this.ticketService = ticketService;
+        this.ticketPurchaseBatcher = ticketPurchaseBatcher.getIfAvailable();
+        this.purchaseAdmissionLimiter = purchaseAdmissionLimiter.getIfAvailable();
+        this.batchTimeoutNanos = batchTimeout.toNanos();
+    }
+
+    public TicketResponse purchaseTicket(Long eventId, User authenticatedUser) {
+        if (ticketPurchaseBatcher == null) {
+            if (purchaseAdmissionLimiter == null) {
+                return ticketService.purchaseTicket(eventId, authenticatedUser);
+            }
+            return purchaseAdmissionLimiter.execute(
+                    eventId, () -> ticketService.purchaseTicket(eventId, authenticatedUser));
+        }
+
+        CompletableFuture<TicketResponse> result =
+                ticketPurchaseBatcher.submit(eventId, authenticatedUser.getParticipant().getId());
+        try {
+            return result.get(batchTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(false);
+            throw new PurchaseTimeoutException(eventId);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.cancel(false);
+            throw new PurchaseTimeoutException(eventId);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.larissafalcao.eventhub_api.service;
+
+public record TicketPurchaseItem(Long eventId, Long participantId) {
+}
@@ -0,0 +1,22 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+
+public record TicketPurchaseOutcome(
+        Long eventId,
+        Long participantId,
+        TicketResponse ticket,
+        RuntimeException error) {
+
+    public static TicketPurchaseOutcome success(Long eventId, Long participantId, TicketResponse ticket) {
+        return new TicketPurchaseOutcome(eventId, participantId, ticket, null);
+    }
+
+    public static TicketPurchaseOutcome failure(Long eventId, Long participantId, RuntimeException error) {
+        return new TicketPurchaseOutcome(eventId, participantId, null, error);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -1,10 +1,15 @@
 package com.larissafalcao.eventhub_api.service;
 
+import com.larissafalcao.eventhub_api.dto.request.TicketCursor;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
 import com.larissafalcao.eventhub_api.entity.Event;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Ticket;
 import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.event.EventCapacityChangedEvent;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
 import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
 import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
 import com.larissafalcao.eventhub_api.exception.EventFullException;
@@ -13,19 +18,33 @@ import com.larissafalcao.eventhub_api.mapper.TicketMapper;
 import com.larissafalcao.eventhub_api.repository.EventRepository;
 import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
 import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import com.larissafalcao.eventhub_api.reservation.SeatReservationStrategy;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TicketService {
 
     private static final String EVENT_NOT_FOUND = "Event not found with id: %d";
     private static final String PARTICIPANT_NOT_FOUND = "Participant not found with id: %d";
+    private static final int MAX_HISTORY_SIZE = 100;
 
+    private final SeatReservationStrategy seatReservationStrategy;
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
     private final TicketRepository ticketRepository;
@@ -33,11 +52,13 @@ public class TicketService {
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public TicketService(
+            SeatReservationStrategy seatReservationStrategy,
             EventRepository eventRepository,
             ParticipantRepository participantRepository,
             TicketRepository ticketRepository,
             TicketMapper ticketMapper,
             ApplicationEventPublisher applicationEventPublisher) {
+        this.seatReservationStrategy = seatReservationStrategy;
         this.eventRepository = eventRepository;
         this.participantRepository = participantRepository;
         this.ticketRepository = ticketRepository;
@@ -47,15 +68,11 @@ public class TicketService {
 
     @Transactional
     public TicketResponse purchaseTicket(Long eventId, Long participantId) {
-        Event event = findEventByIdForUpdate(eventId);
-
-        if (event.getCapacity() <= 0) {
-            throw new EventFullException(eventId);
-        }
-
+        Event event = seatReservationStrategy.reserveSeat(eventId, participantId);
         Participant participant = findParticipantById(participantId);
 
-        if (ticketRepository.existsByEventIdAndParticipantId(eventId, participant.getId())) {
+        if (!seatReservationStrategy.detectsDuplicates()
+                && ticketRepository.existsByEventIdAndParticipantId(eventId, participant.getId())) {
             throw new DuplicateTicketException(eventId, participant.getId());
         }
 
@@ -65,33 +82,202 @@ public class TicketService {
                 .purchasedAt(Instant.now())
                 .build();
         Ticket savedTicket = ticketRepository.save(ticket);
-        event.setCapacity(event.getCapacity() - 1);
-        eventRepository.save(event);
-        applicationEventPublisher.publishEvent(new TicketPurchasedEvent(
-                savedTicket.getId(),
-                participant.getName(),
-                participant.getEmail(),
-                event.getName(),
-                savedTicket.getPurchasedAt()));
+        publishTicketPurchased(savedTicket);
+        publishCapacityChanged(event);
 
         return ticketMapper.toResponse(savedTicket);
     }
 
+    @Transactional
+    public List<TicketPurchaseOutcome> purchaseTicketBatch(Long eventId, List<Long> participantIds) {
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId)));
+        List<PlannedPurchase> plan = planPurchases(
+                eventId, event, participantIds, findParticipantsById(participantIds), Instant.now());
+
+        List<PlannedPurchase> saved = savePlannedTickets(Map.of(eventId, event), plan);
+        List<TicketPurchaseOutcome> outcomes = new ArrayList<>(participantIds.size());
+        for (int index = 0; index < participantIds.size(); index++) {
+            outcomes.add(toOutcome(eventId, participantIds.get(index), saved.get(index)));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Buys the given tickets, possibly across several events, in one transaction. Each event row is locked once,
+     * in ascending id order so that concurrent bulk purchases cannot deadlock, and all tickets are inserted with a
+     * single {@code saveAll}. When {@code atomic} is set, the first failing item aborts the whole purchase with its
+     * error; otherwise every item gets its own outcome, in request order.
+     */
+    @Transactional
+    public List<TicketPurchaseOutcome> purchaseTickets(List<TicketPurchaseItem> items, boolean atomic) {
+        Map<Long, List<Long>> participantIdsByEvent = items.stream()
+                .collect(Collectors.groupingBy(
+                        TicketPurchaseItem::eventId,
+                        TreeMap::new,
+                        Collectors.mapping(TicketPurchaseItem::participantId, Collectors.toList())));
+        Map<Long, Participant> participants = findParticipantsById(items.stream()
+                .map(TicketPurchaseItem::participantId)
+                .distinct()
+                .toList());
+
+        Instant purchasedAt = Instant.now();
+        Map<Long, Event> events = new HashMap<>();
+        Map<Long, Integer> planOffsets = new HashMap<>();
+        List<PlannedPurchase> plan = new ArrayList<>(items.size());
+        participantIdsByEvent.forEach((eventId, participantIds) -> {
+            Event event = eventRepository.findByIdForUpdate(eventId).orElse(null);
+            if (event != null) {
+                events.put(eventId, event);
+            }
+            planOffsets.put(eventId, plan.size());
+            plan.addAll(planPurchases(eventId, event, participantIds, participants, purchasedAt));
+        });
+
+        if (atomic) {
+            plan.stream()
+                    .map(PlannedPurchase::error)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresent(error -> {
+                        throw error;
+                    });
+        }
+        List<PlannedPurchase> saved = savePlannedTickets(events, plan);
+
+        List<TicketPurchaseOutcome> outcomes = new ArrayList<>(items.size());
+        for (TicketPurchaseItem item : items) {
+            int index = planOffsets.merge(item.eventId(), 1, Integer::sum) - 1;
+            outcomes.add(toOutcome(item.eventId(), item.participantId(), saved.get(index)));
+        }
+        return outcomes;
+    }
+
     @Transactional
     public TicketResponse purchaseTicket(Long eventId, User authenticatedUser) {
         return purchaseTicket(eventId, authenticatedUser.getParticipant().getId());
     }
 
-    public List<TicketResponse> listTicketsByAuthenticatedUser(User authenticatedUser) {
+    @Transactional(readOnly = true)
+    public CursorPage<TicketHistoryResponse> listTicketsByAuthenticatedUser(
+            User authenticatedUser,
+            String cursor,
+            int size) {
         Long participantId = authenticatedUser.getParticipant().getId();
-        return ticketRepository.findByParticipantIdOrderByPurchasedAtDesc(participantId).stream()
-                .map(ticketMapper::toResponse)
+        int limit = Math.clamp(size, 1, MAX_HISTORY_SIZE);
+        TicketCursor before = cursor == null || cursor.isBlank() ? null : TicketCursor.decode(cursor);
+        List<TicketHistoryResponse> tickets = before == null
+                ? ticketRepository.findFirstHistoryByParticipantId(participantId, Limit.of(limit + 1))
+                : ticketRepository.findHistoryByParticipantIdBefore(
+                        participantId, before.purchasedAt(), before.id(), Limit.of(limit + 1));
+
+        boolean hasNext = tickets.size() > limit;
+        List<TicketHistoryResponse> content = hasNext ? tickets.subList(0, limit) : tickets;
+        return CursorPage.<TicketHistoryResponse>builder()
+                .content(content)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TicketCursor.after(content.getLast()).encode() : null)
+                .build();
+    }
+
+    private List<PlannedPurchase> planPurchases(
+            Long eventId,
+            Event event,
+            List<Long> participantIds,
+            Map<Long, Participant> participants,
+            Instant purchasedAt) {
+        if (event == null) {
+            RuntimeException error = new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId));
+            return participantIds.stream()
+                    .map(participantId -> new PlannedPurchase(null, error))
+                    .toList();
+        }
+
+        Set<Long> ticketHolders = new HashSet<>(
+                ticketRepository.findParticipantIdsByEventIdAndParticipantIdIn(eventId, participantIds));
+        int remainingCapacity = event.getCapacity();
+        List<PlannedPurchase> plan = new ArrayList<>(participantIds.size());
+        for (Long participantId : participantIds) {
+            Participant participant = participants.get(participantId);
+            if (remainingCapacity <= 0) {
+                plan.add(new PlannedPurchase(null, new EventFullException(eventId)));
+            } else if (participant == null) {
+                plan.add(new PlannedPurchase(
+                        null, new ResourceNotFoundException(String.format(PARTICIPANT_NOT_FOUND, participantId))));
+            } else if (!ticketHolders.add(participantId)) {
+                plan.add(new PlannedPurchase(null, new DuplicateTicketException(eventId, participantId)));
+            } else {
+                plan.add(new PlannedPurchase(
+                        Ticket.builder()
+                                .event(event)
+                                .participant(participant)
+                                .purchasedAt(purchasedAt)
+                                .build(),
+                        null));
+                remainingCapacity--;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Inserts the planned tickets with one {@code saveAll} and decrements each event's capacity once. Returns the
+     * plan with the saved tickets in place of the transient ones, in the same order.
+     */
+    private List<PlannedPurchase> savePlannedTickets(Map<Long, Event> events, List<PlannedPurchase> plan) {
+        List<Ticket> tickets = plan.stream()
+                .map(PlannedPurchase::ticket)
+                .filter(Objects::nonNull)
                 .toList();
+        if (tickets.isEmpty()) {
+            return plan;
+        }
+        Iterator<Ticket> savedTickets = ticketRepository.saveAll(tickets).iterator();
+        List<PlannedPurchase> saved = plan.stream()
+                .map(planned -> planned.ticket() == null ? planned : new PlannedPurchase(savedTickets.next(), null))
+                .toList();
+
+        Map<Long, Integer> soldByEvent = new TreeMap<>();
+        tickets.forEach(ticket -> soldByEvent.merge(ticket.getEvent().getId(), 1, Integer::sum));
+        soldByEvent.forEach((eventId, sold) -> {
+            Event event = events.get(eventId);
+            event.setCapacity(event.getCapacity() - sold);
+            eventRepository.save(event);
+        });
+        saved.stream()
+                .map(PlannedPurchase::ticket)
+                .filter(Objects::nonNull)
+                .forEach(this::publishTicketPurchased);
+        soldByEvent.keySet().forEach(eventId -> {
+            publishCapacityChanged(events.get(eventId));
+            applicationEventPublisher.publishEvent(new EventModifiedEvent(eventId));
+        });
+        return saved;
     }
 
-    private Event findEventByIdForUpdate(Long eventId) {
-        return eventRepository.findByIdForUpdate(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(EVENT_NOT_FOUND, eventId)));
+    private TicketPurchaseOutcome toOutcome(Long eventId, Long participantId, PlannedPurchase planned) {
+        return planned.error() == null
+                ? TicketPurchaseOutcome.success(eventId, participantId, ticketMapper.toResponse(planned.ticket()))
+                : TicketPurchaseOutcome.failure(eventId, participantId, planned.error());
+    }
+
+    private Map<Long, Participant> findParticipantsById(List<Long> participantIds) {
+        return participantRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+    }
+
+    private void publishTicketPurchased(Ticket ticket) {
+        applicationEventPublisher.publishEvent(new TicketPurchasedEvent(
+                ticket.getId(),
+                ticket.getParticipant().getName(),
+                ticket.getParticipant().getEmail(),
+                ticket.getEvent().getName(),
+                ticket.getPurchasedAt()));
+    }
+
+    private void publishCapacityChanged(Event event) {
+        applicationEventPublisher.publishEvent(new EventCapacityChangedEvent(event.getId()));
     }
 
     private Participant findParticipantById(Long participantId) {
@@ -99,4 +285,7 @@ public class TicketService {
                 .orElseThrow(
                         () -> new ResourceNotFoundException(String.format(PARTICIPANT_NOT_FOUND, participantId)));
     }
+
+    private record PlannedPurchase(Ticket ticket, RuntimeException error) {
+    }
 }
@@ -0,0 +1,7 @@
+-- Entities allocate ids in blocks of 50 (pooled-lo), so each sequence must advance by the same step.
+-- Inserts that still use the column default take a whole block and never collide with allocated ids.
+ALTER SEQUENCE events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE participants_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 50;
@@ -0,0 +1,6 @@
+ALTER TABLE outbox_events ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+
+UPDATE outbox_events SET status = 'DELIVERED' WHERE delivered_at IS NOT NULL;
+
+DROP INDEX idx_outbox_events_pending;
+CREATE INDEX idx_outbox_events_pending ON outbox_events (available_at, id) WHERE status = 'PENDING';
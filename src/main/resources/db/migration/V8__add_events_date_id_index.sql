@@ -0,0 +1 @@
+CREATE INDEX idx_events_date_id ON events (date, id);
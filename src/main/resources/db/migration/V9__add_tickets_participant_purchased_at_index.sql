@@ -0,0 +1,3 @@
+CREATE INDEX idx_tickets_participant_purchased_at ON tickets (participant_id, purchased_at DESC, id DESC);
+
+DROP INDEX idx_tickets_participant_id;
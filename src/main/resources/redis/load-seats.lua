@@ -0,0 +1,15 @@
+-- KEYS[1]: remaining seats counter, KEYS[2]: set of participants holding a ticket,
+-- KEYS[3]: staging set already filled with the participant ids
+-- ARGV[1]: remaining capacity, ARGV[2]: key time-to-live in milliseconds
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('UNLINK', KEYS[3])
+    return 0
+end
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('RENAME', KEYS[3], KEYS[2])
+    redis.call('PEXPIRE', KEYS[2], ARGV[2])
+else
+    redis.call('UNLINK', KEYS[2])
+end
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+return 1
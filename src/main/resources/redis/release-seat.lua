@@ -0,0 +1,7 @@
+-- KEYS[1]: remaining seats counter, KEYS[2]: set of participants holding a ticket
+-- ARGV[1]: participant id
+if redis.call('SREM', KEYS[2], ARGV[1]) == 1 and redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('INCR', KEYS[1])
+    return 1
+end
+return 0
@@ -0,0 +1,15 @@
+-- KEYS[1]: remaining seats counter, KEYS[2]: set of participants holding a ticket
+-- ARGV[1]: participant id
+-- Returns 1 when the seat was reserved, 0 when sold out, -1 for a duplicate ticket and -2 when not loaded
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -2
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return -1
+end
+if tonumber(redis.call('GET', KEYS[1])) <= 0 then
+    return 0
+end
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+return 1
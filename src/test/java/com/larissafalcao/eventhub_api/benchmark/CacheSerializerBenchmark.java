@@ -0,0 +1,86 @@
+package com.larissafalcao.eventhub_api.benchmark;
+
+import com.larissafalcao.eventhub_api.cache.CompactCacheSerializer;
+import com.larissafalcao.eventhub_api.cache.EventPageIndex;
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Cost of reading one cached page of 20 events: the page index plus each event entry. The setup prints the Redis
+ * payload of the whole page for each format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "binary"})
+    public String format;
+
+    private RedisSerializer<Object> serializer;
+    private byte[] pageIndex;
+    private byte[][] events;
+
+    @Setup
+    public void setUp() {
+        serializer = "binary".equals(format)
+                ? new CompactCacheSerializer(RedisSerializer.json(), 512)
+                : RedisSerializer.json();
+
+        List<Long> eventIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().toList();
+        pageIndex = serializer.serialize(new EventPageIndex(eventIds, 1000, System.currentTimeMillis(), 15));
+        events = new byte[PAGE_SIZE][];
+        int pageBytes = pageIndex.length;
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            events[index] = serializer.serialize(EventResponse.builder()
+                    .id(eventIds.get(index))
+                    .name("Java Conference " + index)
+                    .date(LocalDate.of(2030, 5, 10).plusDays(index))
+                    .location("Main Hall, Convention Center")
+                    .capacity(500 + index)
+                    .build());
+            pageBytes += events[index].length;
+        }
+        System.out.printf("%n%s: %d bytes per page%n", format, pageBytes);
+    }
+
+    @Benchmark
+    public void readPage(Blackhole blackhole) {
+        blackhole.consume(serializer.deserialize(pageIndex));
+        for (byte[] event : events) {
+            blackhole.consume(serializer.deserialize(event));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
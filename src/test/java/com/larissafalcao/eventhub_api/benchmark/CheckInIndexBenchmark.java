@@ -0,0 +1,87 @@
+package com.larissafalcao.eventhub_api.benchmark;
+
+import com.larissafalcao.eventhub_api.checkin.CheckInIndex;
+import com.larissafalcao.eventhub_api.checkin.CheckInIndexWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per check-in lookup on an event with 500,000 tickets: binary search over the memory-mapped index
+ * versus a {@code HashMap<Long, Long>} holding the same tickets on the heap. Run with {@code -prof gc} to see
+ * that the mapped lookup allocates nothing, while the map boxes every key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckInIndexBenchmark {
+
+    private static final int TICKETS = 500_000;
+
+    private Path file;
+    private CheckInIndex index;
+    private Map<Long, Long> heapIndex;
+    private long nextTicketId;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("check-in-index", ".idx");
+        heapIndex = new HashMap<>();
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(file, 1L, 1L)) {
+            for (long ticketId = 1; ticketId <= TICKETS; ticketId++) {
+                writer.add(ticketId * 2, ticketId);
+                heapIndex.put(ticketId * 2, ticketId);
+            }
+            writer.finish();
+        }
+        index = CheckInIndex.open(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long mappedIndex() {
+        return index.participantIdOf(nextTicketId());
+    }
+
+    @Benchmark
+    public Long heapMap() {
+        return heapIndex.get(nextTicketId());
+    }
+
+    private long nextTicketId() {
+        nextTicketId = (nextTicketId + 7_919) % (TICKETS * 2L);
+        return nextTicketId;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CheckInIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.larissafalcao.eventhub_api.benchmark;
+
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.mapper.EventMapper;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads one page of 100 events from PostgreSQL the way the listing did before ({@code entities}: read-only
+ * managed entities copied through {@link EventMapper}) and through the constructor projection used now. Needs
+ * Docker; run with {@code -prof gc} to see the bytes allocated per page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventReadPathBenchmark {
+
+    private static final int EVENTS = 10_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_OFFSET = 5_000;
+
+    private final EventMapper eventMapper = new EventMapper();
+    private PostgreSQLContainer postgres;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer("postgres:17-alpine");
+        postgres.start();
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Event.class)
+                .setProperty("jakarta.persistence.jdbc.url", postgres.getJdbcUrl())
+                .setProperty("jakarta.persistence.jdbc.user", postgres.getUsername())
+                .setProperty("jakarta.persistence.jdbc.password", postgres.getPassword())
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", "500")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int index = 0; index < EVENTS; index++) {
+                session.persist(Event.builder()
+                        .name("Event " + index)
+                        .date(LocalDate.of(2030, 1, 1).plusDays(index % 365))
+                        .location("Hall " + index % 20)
+                        .capacity(100 + index % 900)
+                        .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<EventResponse> entities() {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            return session.createSelectionQuery("FROM Event event ORDER BY event.id", Event.class)
+                    .setFirstResult(PAGE_OFFSET)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList()
+                    .stream()
+                    .map(eventMapper::toResponse)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<EventResponse> projection() {
+        return sessionFactory.fromTransaction(session -> session
+                .createSelectionQuery(EventRepository.EVENT_RESPONSE_QUERY + " ORDER BY event.id", EventResponse.class)
+                .setFirstResult(PAGE_OFFSET)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventReadPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
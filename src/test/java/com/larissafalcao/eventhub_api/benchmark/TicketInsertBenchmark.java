@@ -0,0 +1,177 @@
+package com.larissafalcao.eventhub_api.benchmark;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Ticket;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists 10,000 tickets for a new event in one transaction. {@code identity} maps the tickets table the way it
+ * was mapped before, with {@code IDENTITY} ids that force one insert round trip per row; {@code sequence} uses the
+ * {@link Ticket} entity with pooled-lo sequence ids, JDBC batching and rewritten batched inserts. Needs Docker.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(TicketInsertBenchmark.TICKETS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketInsertBenchmark {
+
+    static final int TICKETS = 10_000;
+
+    private PostgreSQLContainer postgres;
+    private SessionFactory sessionFactory;
+    private List<Long> participantIds;
+    private Long eventId;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer("postgres:17-alpine");
+        postgres.start();
+        String jdbcUrl = postgres.getJdbcUrl();
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Event.class)
+                .addAnnotatedClass(Participant.class)
+                .addAnnotatedClass(Ticket.class)
+                .addAnnotatedClass(IdentityTicket.class)
+                .setProperty("jakarta.persistence.jdbc.url",
+                        jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true")
+                .setProperty("jakarta.persistence.jdbc.user", postgres.getUsername())
+                .setProperty("jakarta.persistence.jdbc.password", postgres.getPassword())
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+                .buildSessionFactory();
+
+        participantIds = sessionFactory.fromTransaction(session -> {
+            List<Long> ids = new ArrayList<>(TICKETS);
+            for (int index = 0; index < TICKETS; index++) {
+                Participant participant = Participant.builder()
+                        .name("Participant " + index)
+                        .email("participant" + index + "@email.com")
+                        .build();
+                session.persist(participant);
+                ids.add(participant.getId());
+            }
+            return ids;
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void createEvent() {
+        eventId = sessionFactory.fromTransaction(session -> {
+            Event event = Event.builder()
+                    .name("JavaConf")
+                    .date(LocalDate.of(2030, 1, 1))
+                    .location("Main Hall")
+                    .capacity(TICKETS)
+                    .build();
+            session.persist(event);
+            return event.getId();
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTickets() {
+        sessionFactory.inTransaction(session ->
+                session.createNativeMutationQuery("TRUNCATE tickets, identity_tickets").executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public void identity() {
+        Instant purchasedAt = Instant.now();
+        sessionFactory.inTransaction(session -> {
+            for (Long participantId : participantIds) {
+                session.persist(new IdentityTicket(eventId, participantId, purchasedAt));
+            }
+        });
+    }
+
+    @Benchmark
+    public void sequence() {
+        Instant purchasedAt = Instant.now();
+        sessionFactory.inTransaction(session -> {
+            Event event = session.getReference(Event.class, eventId);
+            for (Long participantId : participantIds) {
+                session.persist(Ticket.builder()
+                        .event(event)
+                        .participant(session.getReference(Participant.class, participantId))
+                        .purchasedAt(purchasedAt)
+                        .build());
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TicketInsertBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Entity
+    @Table(name = "identity_tickets")
+    public static class IdentityTicket {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false)
+        private Long eventId;
+
+        @Column(nullable = false)
+        private Long participantId;
+
+        @Column(nullable = false)
+        private Instant purchasedAt;
+
+        protected IdentityTicket() {
+        }
+
+        IdentityTicket(Long eventId, Long participantId, Instant purchasedAt) {
+            this.eventId = eventId;
+            this.participantId = participantId;
+            this.purchasedAt = purchasedAt;
+        }
+    }
+}
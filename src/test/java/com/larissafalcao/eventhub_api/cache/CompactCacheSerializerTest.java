@@ -0,0 +1,85 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCacheSerializerTest {
+
+    private final RedisSerializer<Object> json = RedisSerializer.json();
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer(json, 512);
+
+    @Test
+    @DisplayName("serialize: round-trips an event")
+    void serializeRoundTripsEvent() {
+        EventResponse event = EventResponse.builder()
+                .id(1L)
+                .name("Conferência")
+                .date(LocalDate.of(2030, 5, 10))
+                .location("Hall A")
+                .capacity(100)
+                .build();
+
+        EventResponse read = (EventResponse) serializer.deserialize(serializer.serialize(event));
+
+        assertThat(read).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("serialize: round-trips an event with missing fields")
+    void serializeRoundTripsEventWithNulls() {
+        EventResponse event = EventResponse.builder().id(1L).build();
+
+        EventResponse read = (EventResponse) serializer.deserialize(serializer.serialize(event));
+
+        assertThat(read).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("serialize: round-trips page indexes, generation tokens and counts")
+    void serializeRoundTripsPageIndexAndString() {
+        EventPageIndex index = new EventPageIndex(List.of(3L, 1L, 2L), 42, 1_700_000_000_000L, 12);
+
+        assertThat(serializer.deserialize(serializer.serialize(index))).isEqualTo(index);
+        assertThat(serializer.deserialize(serializer.serialize("b3c1"))).isEqualTo("b3c1");
+        assertThat(serializer.deserialize(serializer.serialize(21L))).isEqualTo(21L);
+    }
+
+    @Test
+    @DisplayName("serialize: deflates bodies above the threshold and stays smaller than JSON")
+    void serializeDeflatesLargeBodies() {
+        EventPageIndex index = new EventPageIndex(
+                LongStream.rangeClosed(1, 200).boxed().toList(), 5000, 1_700_000_000_000L, 12);
+
+        byte[] bytes = serializer.serialize(index);
+
+        assertThat(bytes[1]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(json.serialize(index).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(index);
+    }
+
+    @Test
+    @DisplayName("deserialize: reads entries written as JSON")
+    void deserializeReadsJsonEntries() {
+        EventPageIndex index = new EventPageIndex(List.of(1L), 1, 1_700_000_000_000L, 3);
+
+        assertThat(serializer.deserialize(json.serialize(index))).isEqualTo(index);
+    }
+
+    @Test
+    @DisplayName("serialize: falls back to JSON for types without a binary layout")
+    void serializeFallsBackToJson() {
+        Map<String, Object> value = new HashMap<>(Map.of("key", "value"));
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+}
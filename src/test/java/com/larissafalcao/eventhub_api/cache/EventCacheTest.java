@@ -0,0 +1,343 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.larissafalcao.eventhub_api.config.CacheConfig;
+import com.larissafalcao.eventhub_api.dto.request.EventCursor;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.EventResponse;
+import com.larissafalcao.eventhub_api.dto.response.RestPage;
+import com.larissafalcao.eventhub_api.event.EventCapacityChangedEvent;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 5, 10);
+    private static final PageRequest BY_DATE = PageRequest.of(0, 20, Sort.by("date"));
+    private static final PageRequest BY_NAME = PageRequest.of(0, 20, Sort.by("name"));
+    private static final PageRequest BY_CAPACITY = PageRequest.of(0, 20, Sort.by("capacity"));
+    private static final Duration CAPACITY_ORDER_REFRESH = Duration.ofDays(36500);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventCache eventCache;
+
+    @BeforeEach
+    void setUp() {
+        eventCache = new EventCache(cacheManager, eventRepository, meterRegistry, 0, CAPACITY_ORDER_REFRESH);
+    }
+
+    @Test
+    @DisplayName("getPage: serves a repeated page from the cache")
+    void getPageServesRepeatedPageFromCache() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+
+        eventCache.getPage(BY_DATE);
+        RestPage<EventResponse> page = eventCache.getPage(BY_DATE);
+
+        assertThat(page.getContent()).extracting(EventResponse::getName).containsExactly("Meetup");
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        verify(eventRepository, times(1)).findResponses(BY_DATE);
+    }
+
+    @Test
+    @DisplayName("eventUpdated: refreshes the entity without rebuilding pages sorted by unchanged properties")
+    void eventUpdatedKeepsPagesSortedByUnchangedProperties() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        when(eventRepository.findResponses(BY_NAME))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_NAME, 1));
+        eventCache.getPage(BY_DATE);
+        eventCache.getPage(BY_NAME);
+
+        eventCache.eventUpdated(response(1L, "Meetup"), response(1L, "Java Meetup"));
+
+        assertThat(eventCache.getPage(BY_DATE).getContent())
+                .extracting(EventResponse::getName)
+                .containsExactly("Java Meetup");
+        verify(eventRepository, times(1)).findResponses(BY_DATE);
+
+        eventCache.getPage(BY_NAME);
+        verify(eventRepository, times(2)).findResponses(BY_NAME);
+    }
+
+    @Test
+    @DisplayName("eventUpdated: evicts the entity before storing it so other replicas drop their copy")
+    void eventUpdatedEvictsBeforePut() {
+        ConcurrentMapCache events = spy(new ConcurrentMapCache(CacheConfig.EVENT_CACHE_NAME));
+        SimpleCacheManager spiedManager = new SimpleCacheManager();
+        spiedManager.setCaches(List.of(
+                events,
+                new ConcurrentMapCache(CacheConfig.EVENTS_CACHE_NAME),
+                new ConcurrentMapCache(CacheConfig.EVENT_GENERATIONS_CACHE_NAME)));
+        spiedManager.afterPropertiesSet();
+        EventCache spiedCache = new EventCache(spiedManager, eventRepository, meterRegistry, 0, CAPACITY_ORDER_REFRESH);
+        EventResponse updated = response(1L, "Java Meetup");
+
+        spiedCache.eventUpdated(response(1L, "Meetup"), updated);
+
+        InOrder inOrder = inOrder(events);
+        inOrder.verify(events).evict(1L);
+        inOrder.verify(events).put(1L, updated);
+    }
+
+    @Test
+    @DisplayName("getPage: keeps generation tokens in their own cache so page expiry never changes them")
+    void getPageStoresGenerationsSeparately() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        eventCache.getPage(BY_DATE);
+
+        cacheManager.getCache(CacheConfig.EVENTS_CACHE_NAME).clear();
+        eventCache.getPage(BY_DATE);
+
+        assertThat(cacheManager.getCache(CacheConfig.EVENT_GENERATIONS_CACHE_NAME).get("*")).isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.EVENT_GENERATIONS_CACHE_NAME).get("date")).isNotNull();
+        verify(eventRepository, times(2)).findResponses(BY_DATE);
+    }
+
+    @Test
+    @DisplayName("eventCreated: rebuilds every page")
+    void eventCreatedRebuildsEveryPage() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        eventCache.getPage(BY_DATE);
+
+        eventCache.eventCreated(response(2L, "Conference"));
+        eventCache.getPage(BY_DATE);
+
+        verify(eventRepository, times(2)).findResponses(BY_DATE);
+    }
+
+    @Test
+    @DisplayName("eventDeleted: reloads the page instead of serving a removed event")
+    void eventDeletedReloadsPage() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup"), response(2L, "Conference")), BY_DATE, 2))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        eventCache.getPage(BY_DATE);
+
+        eventCache.eventDeleted(2L);
+        RestPage<EventResponse> page = eventCache.getPage(BY_DATE);
+
+        assertThat(page.getContent()).extracting(EventResponse::getId).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getPage: loads evicted entities by id and keeps the page index")
+    void getPageLoadsMissingEntitiesById() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        when(eventRepository.findResponsesByIdIn(any())).thenReturn(List.of(response(1L, "Meetup")));
+        eventCache.getPage(BY_DATE);
+        cacheManager.getCache("event").evict(1L);
+
+        RestPage<EventResponse> page = eventCache.getPage(BY_DATE);
+
+        assertThat(page.getContent()).extracting(EventResponse::getId).containsExactly(1L);
+        verify(eventRepository, times(1)).findResponses(BY_DATE);
+        verify(eventRepository).findResponsesByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("getEvent: serves a repeated lookup from the cache")
+    void getEventServesRepeatedLookupFromCache() {
+        when(eventRepository.findResponseById(1L)).thenReturn(Optional.of(response(1L, "Meetup")));
+
+        eventCache.getEvent(1L);
+        Optional<EventResponse> event = eventCache.getEvent(1L);
+
+        assertThat(event).map(EventResponse::getName).contains("Meetup");
+        verify(eventRepository, times(1)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("getEvent: returns empty and caches nothing when the event does not exist")
+    void getEventReturnsEmptyWhenMissing() {
+        when(eventRepository.findResponseById(1L)).thenReturn(Optional.empty());
+
+        assertThat(eventCache.getEvent(1L)).isEmpty();
+        assertThat(eventCache.getEvent(1L)).isEmpty();
+
+        verify(eventRepository, times(2)).findResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("onCapacityChanged: evicts the event and keeps every cached page")
+    void onCapacityChangedEvictsEventAndKeepsPages() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        when(eventRepository.findResponses(BY_CAPACITY))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_CAPACITY, 1));
+        when(eventRepository.findResponsesByIdIn(List.of(1L)))
+                .thenReturn(List.of(EventResponse.builder()
+                        .id(1L)
+                        .name("Meetup")
+                        .date(DATE)
+                        .location("Hall A")
+                        .capacity(99)
+                        .build()));
+        eventCache.getPage(BY_DATE);
+        eventCache.getPage(BY_CAPACITY);
+
+        eventCache.onCapacityChanged(new EventCapacityChangedEvent(1L));
+
+        assertThat(eventCache.getPage(BY_DATE).getContent())
+                .extracting(EventResponse::getCapacity)
+                .containsExactly(99);
+        eventCache.getPage(BY_CAPACITY);
+        verify(eventRepository, times(1)).findResponses(BY_DATE);
+        verify(eventRepository, times(1)).findResponses(BY_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("getPage: rebuilds pages sorted by capacity once the refresh window has passed")
+    void getPageRebuildsCapacityPagesPerWindow() throws InterruptedException {
+        when(eventRepository.findResponses(BY_CAPACITY))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_CAPACITY, 1));
+        EventCache shortWindowCache = new EventCache(
+                cacheManager, eventRepository, meterRegistry, 0, Duration.ofMillis(1));
+
+        shortWindowCache.getPage(BY_CAPACITY);
+        Thread.sleep(5);
+        shortWindowCache.getPage(BY_CAPACITY);
+
+        verify(eventRepository, times(2)).findResponses(BY_CAPACITY);
+    }
+
+    @Test
+    @DisplayName("getPage: refreshes a cached page early when the draw says it is about to expire")
+    void getPageRefreshesEarly() {
+        when(eventRepository.findResponses(BY_DATE))
+                .thenReturn(new PageImpl<>(List.of(response(1L, "Meetup")), BY_DATE, 1));
+        EventCache eagerCache = new EventCache(cacheManager, eventRepository, meterRegistry, 1e12, CAPACITY_ORDER_REFRESH);
+
+        eagerCache.getPage(BY_DATE);
+        eagerCache.getPage(BY_DATE);
+
+        verify(eventRepository, times(2)).findResponses(BY_DATE);
+        assertThat(meterRegistry.get("events.cache.loads")
+                .tags("cache", "events", "outcome", "early_refresh")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getSlice: counts once per generation instead of once per page")
+    void getSliceSharesCachedCount() {
+        PageRequest secondPage = PageRequest.of(1, 20, Sort.by("date"));
+        when(eventRepository.findResponseSlice(BY_DATE))
+                .thenReturn(new SliceImpl<>(List.of(response(1L, "Meetup")), BY_DATE, true));
+        when(eventRepository.findResponseSlice(secondPage))
+                .thenReturn(new SliceImpl<>(List.of(response(2L, "Conference")), secondPage, false));
+        when(eventRepository.count()).thenReturn(21L, 22L);
+
+        RestPage<EventResponse> first = eventCache.getSlice(BY_DATE);
+        RestPage<EventResponse> second = eventCache.getSlice(secondPage);
+
+        assertThat(first.getTotalElements()).isEqualTo(21);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(EventResponse::getId).containsExactly(2L);
+        assertThat(second.getTotalElements()).isEqualTo(21);
+        verify(eventRepository, times(1)).count();
+
+        eventCache.eventCreated(response(3L, "Workshop"));
+
+        assertThat(eventCache.getSlice(BY_DATE).getTotalElements()).isEqualTo(22);
+        verify(eventRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("getWindow: seeks after the cursor and returns the next cursor")
+    void getWindowSeeksAfterCursor() {
+        EventCursor cursor = new EventCursor(DATE, 1L);
+        when(eventRepository.findResponsesAfterByDate(DATE, 1L, Limit.of(3)))
+                .thenReturn(List.of(response(2L, "Meetup"), response(3L, "Conference"), response(4L, "Workshop")));
+
+        CursorPage<EventResponse> window = eventCache.getWindow(cursor, 2);
+
+        assertThat(window.getContent()).extracting(EventResponse::getId).containsExactly(2L, 3L);
+        assertThat(window.isHasNext()).isTrue();
+        assertThat(EventCursor.decode(window.getNextCursor())).isEqualTo(new EventCursor(DATE, 3L));
+    }
+
+    @Test
+    @DisplayName("getWindow: serves a repeated window from the cache until an event date changes")
+    void getWindowIsCachedUntilDateChanges() {
+        when(eventRepository.findFirstResponsesByDate(Limit.of(21))).thenReturn(List.of(response(1L, "Meetup")));
+
+        eventCache.getWindow(null, 20);
+        eventCache.eventUpdated(response(1L, "Meetup"), response(1L, "Java Meetup"));
+        CursorPage<EventResponse> window = eventCache.getWindow(null, 20);
+
+        assertThat(window.isHasNext()).isFalse();
+        assertThat(window.getNextCursor()).isNull();
+        assertThat(window.getContent()).extracting(EventResponse::getName).containsExactly("Java Meetup");
+        verify(eventRepository, times(1)).findFirstResponsesByDate(Limit.of(21));
+
+        EventResponse moved = response(1L, "Java Meetup");
+        moved.setDate(DATE.plusDays(1));
+        eventCache.eventUpdated(response(1L, "Java Meetup"), moved);
+        eventCache.getWindow(null, 20);
+
+        verify(eventRepository, times(2)).findFirstResponsesByDate(Limit.of(21));
+    }
+
+    @Test
+    @DisplayName("changedProperties: reports only the fields that differ")
+    void changedPropertiesReportsDifferingFields() {
+        EventResponse before = response(1L, "Meetup");
+        EventResponse after = EventResponse.builder()
+                .id(1L)
+                .name("Meetup")
+                .date(DATE)
+                .location("Hall B")
+                .capacity(100)
+                .build();
+
+        assertThat(EventCache.changedProperties(before, after)).containsExactly("location");
+    }
+
+    private static EventResponse response(Long id, String name) {
+        return EventResponse.builder()
+                .id(id)
+                .name(name)
+                .date(DATE)
+                .location("Hall A")
+                .capacity(100)
+                .build();
+    }
+}
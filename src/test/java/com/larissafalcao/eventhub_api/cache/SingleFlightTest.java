@@ -0,0 +1,110 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final Counter coalescedCounter = Counter.builder("coalesced").register(new SimpleMeterRegistry());
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(coalescedCounter);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("load: runs the loader once for concurrent callers of the same key")
+    void loadCoalescesConcurrentCallers() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.load("0-20", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                awaitQuietly(releaseLoader);
+                return "page";
+            })));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int caller = 1; caller < callers; caller++) {
+                results.add(executor.submit(() -> singleFlight.load("0-20", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (coalescedCounter.count() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.isLoading("0-20")).isFalse();
+    }
+
+    @Test
+    @DisplayName("load: lets the next caller retry after a failed load")
+    void loadReleasesKeyAfterFailure() {
+        assertThatThrownBy(() -> singleFlight.load("0-20", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.isLoading("0-20")).isFalse();
+        assertThat(singleFlight.load("0-20", () -> "page")).isEqualTo("page");
+    }
+
+    @Test
+    @DisplayName("load: keeps the result shared until the loading transaction completes")
+    void loadKeepsResultUntilTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        singleFlight.load("0-20", () -> "page");
+
+        assertThat(singleFlight.isLoading("0-20")).isTrue();
+        assertThat(singleFlight.load("0-20", () -> "other")).isEqualTo("page");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(singleFlight.isLoading("0-20")).isFalse();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
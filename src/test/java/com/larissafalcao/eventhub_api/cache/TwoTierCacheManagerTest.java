@@ -0,0 +1,104 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheManagerTest {
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration("events", RedisCacheConfiguration.defaultCacheConfig())
+                .build();
+        cacheManager = new TwoTierCacheManager(
+                redisCacheManager, redisTemplate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        cacheManager.setTransactionAware(true);
+        cacheManager.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("getCache: wraps the Redis caches in transaction-aware two-tier caches")
+    void getCacheReturnsTransactionAwareTwoTierCache() {
+        assertThat(cacheManager.getCache("events"))
+                .isInstanceOfSatisfying(TransactionAwareCacheDecorator.class, cache ->
+                        assertThat(cache.getTargetCache()).isInstanceOf(TwoTierCache.class));
+    }
+
+    @Test
+    @DisplayName("onMessage: evicts the local entry when another replica evicts the key")
+    void onMessageEvictsLocalEntryFromOtherReplica() {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = localCache();
+        localCache.put("0-20", "page");
+        localCache.put("1-20", "page");
+
+        cacheManager.onMessage(message("other-instance\nevict\nevents\n0-20"), null);
+
+        assertThat(localCache.getIfPresent("0-20")).isNull();
+        assertThat(localCache.getIfPresent("1-20")).isEqualTo("page");
+    }
+
+    @Test
+    @DisplayName("onMessage: clears the local tier when another replica clears the cache")
+    void onMessageClearsLocalTierFromOtherReplica() {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = localCache();
+        localCache.put("0-20", "page");
+
+        cacheManager.onMessage(message("other-instance\nclear\nevents"), null);
+
+        assertThat(localCache.getIfPresent("0-20")).isNull();
+    }
+
+    @Test
+    @DisplayName("onMessage: ignores invalidations published by this instance")
+    void onMessageIgnoresOwnInvalidations() {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = localCache();
+        cacheManager.publishClear("events");
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), published.capture());
+        localCache.put("0-20", "page");
+
+        cacheManager.onMessage(message(published.getValue()), null);
+
+        assertThat(localCache.getIfPresent("0-20")).isEqualTo("page");
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache() {
+        TransactionAwareCacheDecorator decorator = (TransactionAwareCacheDecorator) cacheManager.getCache("events");
+        return (com.github.benmanes.caffeine.cache.Cache<String, Object>) decorator.getTargetCache().getNativeCache();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,121 @@
+package com.larissafalcao.eventhub_api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    private final CountingCache remoteCache = new CountingCache();
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @Test
+    @DisplayName("get: serves repeated reads from the local tier")
+    void getServesRepeatedReadsLocally() {
+        TwoTierCache cache = cache();
+        remoteCache.put("0-20", "page");
+
+        assertThat(cache.get("0-20", String.class)).isEqualTo("page");
+        assertThat(cache.get("0-20", String.class)).isEqualTo("page");
+
+        assertThat(remoteCache.reads.get()).isEqualTo(1);
+        assertThat(localCache.getIfPresent("0-20")).isEqualTo("page");
+    }
+
+    @Test
+    @DisplayName("get: returns null when neither tier has the key")
+    void getReturnsNullOnMiss() {
+        assertThat(cache().get("0-20")).isNull();
+    }
+
+    @Test
+    @DisplayName("get: loads, stores in both tiers and does not publish on a miss")
+    void getWithLoaderStoresLoadedValue() {
+        TwoTierCache cache = cache();
+
+        assertThat(cache.get("0-20", () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get("0-20", () -> "reloaded")).isEqualTo("loaded");
+
+        assertThat(remoteCache.get("0-20", String.class)).isEqualTo("loaded");
+        assertThat(localCache.getIfPresent("0-20")).isEqualTo("loaded");
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("get: wraps loader failures")
+    void getWithLoaderWrapsFailures() {
+        TwoTierCache cache = cache();
+
+        assertThatThrownBy(() -> cache.get("0-20", () -> {
+            throw new IllegalStateException("database down");
+        }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseMessage("database down");
+    }
+
+    @Test
+    @DisplayName("evict: removes the key from both tiers and notifies the other replicas")
+    void evictRemovesFromBothTiersAndPublishes() {
+        TwoTierCache cache = cache();
+        cache.put("0-20", "page");
+
+        cache.evict("0-20");
+
+        assertThat(localCache.getIfPresent("0-20")).isNull();
+        assertThat(remoteCache.get("0-20")).isNull();
+        verify(invalidationPublisher).publishEvict("events", "0-20");
+    }
+
+    @Test
+    @DisplayName("clear: empties both tiers and notifies the other replicas")
+    void clearEmptiesBothTiersAndPublishes() {
+        TwoTierCache cache = cache();
+        cache.put("0-20", "page");
+        cache.put("1-20", "page");
+
+        cache.clear();
+
+        assertThat(localCache.estimatedSize()).isZero();
+        assertThat(remoteCache.get("1-20")).isNull();
+        verify(invalidationPublisher).publishClear("events");
+    }
+
+    private TwoTierCache cache() {
+        return new TwoTierCache("events", localCache, remoteCache, invalidationPublisher);
+    }
+
+    private static final class CountingCache extends ConcurrentMapCache {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private CountingCache() {
+            super("events", false);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            reads.incrementAndGet();
+            return super.get(key);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.larissafalcao.eventhub_api.checkin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckInIndexRegistryTest {
+
+    @TempDir
+    private Path directory;
+
+    private CheckInIndexRegistry checkInIndexRegistry;
+
+    @BeforeEach
+    void setUp() {
+        checkInIndexRegistry = new CheckInIndexRegistry(directory.toString());
+    }
+
+    @Test
+    @DisplayName("activate: swaps to the new version while earlier instances keep answering")
+    void activateSwapsVersions() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(1L, 200L, 20L);
+
+        CheckInIndex first = checkInIndexRegistry.activate(1L, 100L);
+        CheckInIndex second = checkInIndexRegistry.activate(1L, 200L);
+
+        assertThat(checkInIndexRegistry.find(1L)).isSameAs(second);
+        assertThat(checkInIndexRegistry.activeEventIds()).containsExactly(1L);
+        assertThat(first.participantIdOf(10L)).isEqualTo(10L);
+        assertThat(second.participantIdOf(10L)).isEqualTo(CheckInIndex.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("activate: keeps the previous and newer versions and deletes older ones")
+    void activateDeletesStaleVersions() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(1L, 200L, 20L);
+        writeIndex(1L, 300L, 30L);
+        writeIndex(1L, 400L, 40L);
+        writeIndex(2L, 100L, 10L);
+
+        checkInIndexRegistry.activate(1L, 200L);
+        checkInIndexRegistry.activate(1L, 300L);
+
+        assertThat(checkInIndexRegistry.pathOf(1L, 100L)).doesNotExist();
+        assertThat(checkInIndexRegistry.pathOf(1L, 200L)).exists();
+        assertThat(checkInIndexRegistry.pathOf(1L, 300L)).exists();
+        assertThat(checkInIndexRegistry.pathOf(1L, 400L)).exists();
+        assertThat(checkInIndexRegistry.pathOf(2L, 100L)).exists();
+    }
+
+    @Test
+    @DisplayName("stage: keeps the active version and only the latest staged one")
+    void stageKeepsActiveVersion() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        checkInIndexRegistry.activate(1L, 100L);
+        writeIndex(checkInIndexRegistry.stagedPathOf(1L, 200L), 1L, 200L, 20L);
+        checkInIndexRegistry.stage(1L, 200L);
+        writeIndex(checkInIndexRegistry.stagedPathOf(1L, 300L), 1L, 300L, 30L);
+
+        CheckInIndex staged = checkInIndexRegistry.stage(1L, 300L);
+
+        assertThat(staged.participantIdOf(30L)).isEqualTo(30L);
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(100L);
+        assertThat(checkInIndexRegistry.stagedPathOf(1L, 200L)).doesNotExist();
+        assertThat(checkInIndexRegistry.stagedPathOf(1L, 300L)).exists();
+    }
+
+    @Test
+    @DisplayName("loadActiveVersions: ignores staged versions")
+    void loadActiveVersionsIgnoresStagedFiles() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(checkInIndexRegistry.stagedPathOf(1L, 200L), 1L, 200L, 20L);
+
+        checkInIndexRegistry.loadActiveVersions();
+
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("activate: rejects a file whose header does not match its name")
+    void activateRejectsMismatchedFile() throws IOException {
+        writeIndex(2L, 100L, 10L);
+        Files.move(checkInIndexRegistry.pathOf(2L, 100L), checkInIndexRegistry.pathOf(1L, 100L));
+
+        assertThatThrownBy(() -> checkInIndexRegistry.activate(1L, 100L)).isInstanceOf(IOException.class);
+        assertThat(checkInIndexRegistry.find(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("loadActiveVersions: maps the newest version of events without an active pointer")
+    void loadActiveVersionsMapsNewestFiles() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(1L, 200L, 20L);
+        writeIndex(2L, 150L, 15L);
+        Files.write(directory.resolve("notes.txt"), new byte[] {1});
+
+        checkInIndexRegistry.loadActiveVersions();
+
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(200L);
+        assertThat(checkInIndexRegistry.find(2L).participantIdOf(15L)).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("loadActiveVersions: maps the activated version after a rollback instead of the newest file")
+    void loadActiveVersionsKeepsRollback() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(1L, 200L, 20L);
+        checkInIndexRegistry.activate(1L, 100L);
+        checkInIndexRegistry.activate(1L, 200L);
+        checkInIndexRegistry.activate(1L, 100L);
+
+        CheckInIndexRegistry restarted = new CheckInIndexRegistry(directory.toString());
+        restarted.loadActiveVersions();
+
+        assertThat(checkInIndexRegistry.activePathOf(1L)).hasContent("100");
+        assertThat(restarted.find(1L).getVersion()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("loadActiveVersions: falls back to the newest file when the pointer is unreadable")
+    void loadActiveVersionsIgnoresCorruptPointer() throws IOException {
+        writeIndex(1L, 100L, 10L);
+        writeIndex(1L, 200L, 20L);
+        Files.writeString(checkInIndexRegistry.activePathOf(1L), "oops");
+
+        checkInIndexRegistry.loadActiveVersions();
+
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("loadActiveVersions: does nothing when the directory does not exist yet")
+    void loadActiveVersionsWithoutDirectory() {
+        CheckInIndexRegistry registry = new CheckInIndexRegistry(directory.resolve("missing").toString());
+
+        registry.loadActiveVersions();
+
+        assertThat(registry.activeEventIds()).isEmpty();
+    }
+
+    private void writeIndex(long eventId, long version, long ticketId) throws IOException {
+        writeIndex(checkInIndexRegistry.pathOf(eventId, version), eventId, version, ticketId);
+    }
+
+    private static void writeIndex(Path path, long eventId, long version, long ticketId) throws IOException {
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(path, eventId, version)) {
+            writer.add(ticketId, ticketId);
+            writer.finish();
+        }
+    }
+}
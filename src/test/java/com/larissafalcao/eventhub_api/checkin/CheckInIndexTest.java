@@ -0,0 +1,84 @@
+package com.larissafalcao.eventhub_api.checkin;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckInIndexTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("participantIdOf: finds every written ticket and rejects ids between, before and after them")
+    void participantIdOfFindsWrittenTickets() throws IOException {
+        Path file = directory.resolve("event-7-1.idx");
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(file, 7L, 1L)) {
+            for (long ticketId = 10; ticketId < 10_010; ticketId += 2) {
+                writer.add(ticketId, ticketId * 3);
+            }
+            assertThat(writer.finish()).isEqualTo(5_000);
+        }
+
+        CheckInIndex index = CheckInIndex.open(file);
+
+        assertThat(index.getEventId()).isEqualTo(7L);
+        assertThat(index.getVersion()).isEqualTo(1L);
+        assertThat(index.getSize()).isEqualTo(5_000);
+        assertThat(index.participantIdOf(10L)).isEqualTo(30L);
+        assertThat(index.participantIdOf(5_000L)).isEqualTo(15_000L);
+        assertThat(index.participantIdOf(10_008L)).isEqualTo(30_024L);
+        assertThat(index.participantIdOf(11L)).isEqualTo(CheckInIndex.NOT_FOUND);
+        assertThat(index.participantIdOf(9L)).isEqualTo(CheckInIndex.NOT_FOUND);
+        assertThat(index.participantIdOf(10_010L)).isEqualTo(CheckInIndex.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("participantIdOf: returns NOT_FOUND on an empty index")
+    void participantIdOfOnEmptyIndex() throws IOException {
+        Path file = directory.resolve("event-7-1.idx");
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(file, 7L, 1L)) {
+            writer.finish();
+        }
+
+        CheckInIndex index = CheckInIndex.open(file);
+
+        assertThat(index.getSize()).isZero();
+        assertThat(index.participantIdOf(1L)).isEqualTo(CheckInIndex.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("add: rejects ticket ids that are not strictly ascending")
+    void addRejectsUnsortedTicketIds() throws IOException {
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(directory.resolve("event-7-1.idx"), 7L, 1L)) {
+            writer.add(5L, 1L);
+
+            assertThatThrownBy(() -> writer.add(5L, 2L)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("open: rejects files that are not complete check-in indexes")
+    void openRejectsInvalidFiles() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign.idx"), new byte[64]);
+        Path truncated = directory.resolve("event-7-1.idx");
+        try (CheckInIndexWriter writer = new CheckInIndexWriter(truncated, 7L, 1L)) {
+            writer.add(1L, 1L);
+            writer.add(2L, 2L);
+            writer.finish();
+        }
+        byte[] content = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(content, content.length - 8));
+
+        assertThatThrownBy(() -> CheckInIndex.open(foreign)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> CheckInIndex.open(truncated)).isInstanceOf(IOException.class);
+    }
+}
@@ -7,6 +7,7 @@ import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.exception.EmailAlreadyExistsException;
 import com.larissafalcao.eventhub_api.exception.GlobalExceptionHandler;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
 import com.larissafalcao.eventhub_api.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,9 @@ class AuthControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Test
     @DisplayName("returns 201 when register request is valid")
     void registerReturns201WhenValid() throws Exception {
@@ -3,6 +3,7 @@ package com.larissafalcao.eventhub_api.controller;
 import com.larissafalcao.eventhub_api.config.SecurityConfig;
 import com.larissafalcao.eventhub_api.security.JwtAuthenticationFilter;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
 import com.larissafalcao.eventhub_api.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,9 @@ class AuthSecurityTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Test
     @DisplayName("returns 401 when registering admin without authentication")
     void registerAdminReturns401WithoutAuthentication() throws Exception {
@@ -46,6 +50,14 @@ class AuthSecurityTest {
                 .andExpect(jsonPath("$.code", is("AUTHENTICATION_FAILED")));
     }
 
+    @Test
+    @DisplayName("returns 401 when logging out without authentication")
+    void logoutReturns401WithoutAuthentication() throws Exception {
+        mockMvc.perform(post("/auth/logout"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code", is("AUTHENTICATION_FAILED")));
+    }
+
     @Test
     @DisplayName("returns 403 when registering admin with user role")
     void registerAdminReturns403ForUserRole() throws Exception {
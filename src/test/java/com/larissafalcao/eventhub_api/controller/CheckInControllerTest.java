@@ -0,0 +1,128 @@
+package com.larissafalcao.eventhub_api.controller;
+
+import com.larissafalcao.eventhub_api.config.SecurityConfig;
+import com.larissafalcao.eventhub_api.dto.response.CheckInIndexResponse;
+import com.larissafalcao.eventhub_api.dto.response.CheckInResponse;
+import com.larissafalcao.eventhub_api.exception.GlobalExceptionHandler;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.security.JwtAuthenticationFilter;
+import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import com.larissafalcao.eventhub_api.service.CheckInService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CheckInController.class)
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, GlobalExceptionHandler.class})
+class CheckInControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CheckInService checkInService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    @DisplayName("rebuildIndex: returns the activated version for admins")
+    void rebuildIndexReturns200ForAdmin() throws Exception {
+        when(checkInService.rebuildIndex(1L, true))
+                .thenReturn(new CheckInIndexResponse(1L, 1767225600000L, 2, true));
+
+        mockMvc.perform(post("/events/{eventId}/check-in-index", 1L)
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(1767225600000L)))
+                .andExpect(jsonPath("$.tickets", is(2)));
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: only stages the new version when activate is false")
+    void rebuildIndexStagesWhenNotActivating() throws Exception {
+        when(checkInService.rebuildIndex(1L, false))
+                .thenReturn(new CheckInIndexResponse(1L, 1767225600000L, 2, false));
+
+        mockMvc.perform(post("/events/{eventId}/check-in-index", 1L)
+                        .param("activate", "false")
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active", is(false)));
+    }
+
+    @Test
+    @DisplayName("activateIndex: swaps to the requested version")
+    void activateIndexReturns200() throws Exception {
+        when(checkInService.activateIndex(1L, 42L)).thenReturn(new CheckInIndexResponse(1L, 42L, 2, true));
+
+        mockMvc.perform(post("/events/{eventId}/check-in-index/{version}/activate", 1L, 42L)
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version", is(42)));
+        verify(checkInService).activateIndex(1L, 42L);
+    }
+
+    @Test
+    @DisplayName("checkIn: returns whether the ticket is valid")
+    void checkInReturnsValidity() throws Exception {
+        when(checkInService.checkIn(1L, 10L)).thenReturn(new CheckInResponse(1L, 10L, true, 100L, 42L));
+
+        mockMvc.perform(get("/events/{eventId}/check-in/{ticketId}", 1L, 10L)
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid", is(true)))
+                .andExpect(jsonPath("$.participantId", is(100)));
+    }
+
+    @Test
+    @DisplayName("checkIn: returns 404 when no index is loaded")
+    void checkInReturns404WhenIndexNotLoaded() throws Exception {
+        when(checkInService.checkIn(1L, 10L))
+                .thenThrow(new ResourceNotFoundException("No check-in index loaded for event with id: 1"));
+
+        mockMvc.perform(get("/events/{eventId}/check-in/{ticketId}", 1L, 10L)
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("RESOURCE_NOT_FOUND")));
+    }
+
+    @Test
+    @DisplayName("returns 403 when rebuilding an index with user role")
+    void rebuildIndexReturns403ForUserRole() throws Exception {
+        mockMvc.perform(post("/events/{eventId}/check-in-index", 1L)
+                        .with(user("user@email.com").roles("USER")))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
+        verifyNoInteractions(checkInService);
+    }
+
+    @Test
+    @DisplayName("returns 401 when checking in without authentication")
+    void checkInReturns401WithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/events/{eventId}/check-in/{ticketId}", 1L, 10L))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -2,11 +2,16 @@ package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
 import com.larissafalcao.eventhub_api.dto.request.UpdateEventRequest;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.dto.response.RestPage;
 import com.larissafalcao.eventhub_api.exception.GlobalExceptionHandler;
+import com.larissafalcao.eventhub_api.exception.InvalidCursorException;
 import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import com.larissafalcao.eventhub_api.service.AttendeeExportFormat;
+import com.larissafalcao.eventhub_api.service.AttendeeExportService;
 import com.larissafalcao.eventhub_api.service.EventService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,17 +21,27 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -34,6 +49,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -48,12 +64,18 @@ class EventControllerTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private AttendeeExportService attendeeExportService;
+
     @MockitoBean
     private JwtService jwtService;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(7);
 
     @Test
@@ -114,6 +136,60 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.content[0].name", is("Meetup")));
     }
 
+    @Test
+    @DisplayName("returns 200 and skips the count query when slice is requested")
+    void getEventsReturns200WithoutCountWhenSliceRequested() throws Exception {
+        EventResponse event = EventResponse.builder()
+                .id(1L)
+                .name("Meetup")
+                .date(FUTURE_DATE)
+                .location("Office")
+                .capacity(50)
+                .build();
+        when(eventService.listEventsWithoutCount(any(Pageable.class)))
+                .thenReturn(new RestPage<>(List.of(event), 0, 20, 1));
+
+        mockMvc.perform(get("/events").param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+        verify(eventService).listEventsWithoutCount(any(Pageable.class));
+        verify(eventService, never()).listEvents(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("returns 200 and the next cursor when scrolling events")
+    void getEventsScrollReturns200WithNextCursor() throws Exception {
+        EventResponse event = EventResponse.builder()
+                .id(1L)
+                .name("Meetup")
+                .date(FUTURE_DATE)
+                .location("Office")
+                .capacity(50)
+                .build();
+        when(eventService.scrollEvents("abc", 1)).thenReturn(CursorPage.<EventResponse>builder()
+                .content(List.of(event))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("def")
+                .build());
+
+        mockMvc.perform(get("/events/scroll").param("cursor", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("def")));
+    }
+
+    @Test
+    @DisplayName("returns 400 when scroll cursor is invalid")
+    void getEventsScrollReturns400WhenCursorInvalid() throws Exception {
+        when(eventService.scrollEvents("bad", 20)).thenThrow(new InvalidCursorException("bad"));
+
+        mockMvc.perform(get("/events/scroll").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("INVALID_CURSOR")));
+    }
+
     @Test
     @DisplayName("returns 200 when event found")
     void getEventsByIdReturns200WhenFound() throws Exception {
@@ -209,6 +285,87 @@ class EventControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("exportAttendees: streams CSV by default as an attachment")
+    void exportAttendeesStreamsCsvByDefault() throws Exception {
+        writeExport(AttendeeExportFormat.CSV, "ticket_id,participant_id\r\n");
+
+        mockMvc.perform(get("/events/{id}/attendees", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"event-1-attendees.csv\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("ticket_id,participant_id\r\n"));
+    }
+
+    @Test
+    @DisplayName("exportAttendees: streams NDJSON when the Accept header asks for it")
+    void exportAttendeesStreamsNdjsonWhenAccepted() throws Exception {
+        writeExport(AttendeeExportFormat.NDJSON, "{\"ticketId\":1}\n");
+
+        mockMvc.perform(get("/events/{id}/attendees", 1L)
+                        .header(HttpHeaders.ACCEPT, "application/x-ndjson, text/csv;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("{\"ticketId\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("exportAttendees: compresses the body when the client accepts gzip")
+    void exportAttendeesCompressesWhenGzipAccepted() throws Exception {
+        writeExport(AttendeeExportFormat.CSV, "ticket_id,participant_id\r\n");
+
+        byte[] body = mockMvc.perform(get("/events/{id}/attendees", 1L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream gunzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(gunzipped.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("ticket_id,participant_id\r\n");
+        }
+    }
+
+    @Test
+    @DisplayName("exportAttendees: does not compress when gzip is refused with q=0")
+    void exportAttendeesSkipsGzipWhenRefused() throws Exception {
+        writeExport(AttendeeExportFormat.CSV, "ticket_id\r\n");
+
+        mockMvc.perform(get("/events/{id}/attendees", 1L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("ticket_id\r\n"));
+    }
+
+    @Test
+    @DisplayName("exportAttendees: returns 404 without attachment headers when event not found")
+    void exportAttendeesReturns404WhenEventNotFound() throws Exception {
+        doThrow(new ResourceNotFoundException("Event not found with id: 999"))
+                .when(attendeeExportService).exportAttendees(eq(999L), any(), any());
+
+        mockMvc.perform(get("/events/{id}/attendees", 999L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(jsonPath("$.code", is("RESOURCE_NOT_FOUND")));
+    }
+
+    private void writeExport(AttendeeExportFormat format, String body) throws IOException {
+        doAnswer(invocation -> {
+            AttendeeExportService.ExportTarget target = invocation.getArgument(2);
+            try (OutputStream output = target.open()) {
+                output.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+            return 1L;
+        }).when(attendeeExportService).exportAttendees(eq(1L), eq(format), any());
+    }
+
     private static String eventJson(String name, String date, String location, Integer capacity) {
         return """
                 {
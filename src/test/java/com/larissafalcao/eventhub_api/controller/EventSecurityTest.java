@@ -5,6 +5,8 @@ import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.security.JwtAuthenticationFilter;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import com.larissafalcao.eventhub_api.service.AttendeeExportService;
 import com.larissafalcao.eventhub_api.service.EventService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -36,12 +39,18 @@ class EventSecurityTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private AttendeeExportService attendeeExportService;
+
     @MockitoBean
     private JwtService jwtService;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Test
     @DisplayName("returns 401 when creating event without authentication")
     void createEventReturns401WithoutAuthentication() throws Exception {
@@ -83,6 +92,23 @@ class EventSecurityTest {
                 .andExpect(jsonPath("$.id", is(1)));
     }
 
+    @Test
+    @DisplayName("returns 403 when exporting attendees with user role")
+    void exportAttendeesReturns403ForUserRole() throws Exception {
+        mockMvc.perform(get("/events/{id}/attendees", 1L)
+                        .with(user("user@email.com").roles("USER")))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
+    }
+
+    @Test
+    @DisplayName("returns 200 when exporting attendees with admin role")
+    void exportAttendeesReturns200ForAdminRole() throws Exception {
+        mockMvc.perform(get("/events/{id}/attendees", 1L)
+                        .with(user("admin@email.com").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
     private static String eventJson() {
         return """
                 {
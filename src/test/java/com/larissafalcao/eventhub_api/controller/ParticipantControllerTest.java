@@ -1,9 +1,13 @@
 package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.dto.response.ParticipantImportReport;
 import com.larissafalcao.eventhub_api.dto.response.ParticipantResponse;
 import com.larissafalcao.eventhub_api.exception.GlobalExceptionHandler;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import com.larissafalcao.eventhub_api.service.ParticipantImportFormat;
+import com.larissafalcao.eventhub_api.service.ParticipantImportService;
 import com.larissafalcao.eventhub_api.service.ParticipantService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,11 +20,18 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,12 +46,18 @@ class ParticipantControllerTest {
     @MockitoBean
     private ParticipantService participantService;
 
+    @MockitoBean
+    private ParticipantImportService participantImportService;
+
     @MockitoBean
     private JwtService jwtService;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Test
     @DisplayName("returns 201 when valid request")
     void postParticipantsReturns201WhenValid() throws Exception {
@@ -82,6 +99,52 @@ class ParticipantControllerTest {
                 .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")));
     }
 
+    @Test
+    @DisplayName("streams the import report as NDJSON")
+    void postParticipantsImportStreamsReport() throws Exception {
+        doAnswer(invocation -> {
+            ParticipantImportService.ReportListener listener = invocation.getArgument(2);
+            listener.onReport(ParticipantImportReport.builder()
+                    .type(ParticipantImportReport.ERROR)
+                    .line(2L)
+                    .errors(List.of("email: Participant email must be valid"))
+                    .build());
+            listener.onReport(ParticipantImportReport.builder()
+                    .type(ParticipantImportReport.SUMMARY)
+                    .rowsRead(2L)
+                    .inserted(1L)
+                    .updated(0L)
+                    .failed(1L)
+                    .build());
+            return null;
+        }).when(participantImportService).importParticipants(any(), eq(ParticipantImportFormat.CSV), any());
+
+        String body = mockMvc.perform(post("/participants/import")
+                        .contentType("text/csv")
+                        .content("name,email\nAlice,alice@email.com\nBob,invalid\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.lines().toList()).containsExactly(
+                "{\"type\":\"error\",\"line\":2,\"errors\":[\"email: Participant email must be valid\"]}",
+                "{\"type\":\"summary\",\"rowsRead\":2,\"inserted\":1,\"updated\":0,\"failed\":1}");
+    }
+
+    @Test
+    @DisplayName("returns 415 when import content type is not supported")
+    void postParticipantsImportReturns415ForUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/participants/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<participants/>"))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.code", is("UNSUPPORTED_MEDIA_TYPE")));
+
+        verifyNoInteractions(participantImportService);
+    }
+
     private static String createParticipantJson(String name, String email) {
         return """
                 {
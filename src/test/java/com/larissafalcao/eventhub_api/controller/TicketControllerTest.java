@@ -1,5 +1,11 @@
 package com.larissafalcao.eventhub_api.controller;
 
+import com.larissafalcao.eventhub_api.dto.request.BulkTicketPurchaseItem;
+import com.larissafalcao.eventhub_api.dto.request.BulkTicketPurchaseRequest;
+import com.larissafalcao.eventhub_api.dto.response.BulkTicketPurchaseResponse;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
+import com.larissafalcao.eventhub_api.dto.response.TicketPurchaseResult;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Role;
@@ -7,6 +13,10 @@ import com.larissafalcao.eventhub_api.entity.User;
 import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
 import com.larissafalcao.eventhub_api.exception.EventFullException;
 import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.mapper.TicketMapper;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseCoordinator;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseItem;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseOutcome;
 import com.larissafalcao.eventhub_api.service.TicketService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,10 +29,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class TicketControllerTest {
@@ -30,11 +42,14 @@ class TicketControllerTest {
     @Mock
     private TicketService ticketService;
 
+    @Mock
+    private TicketPurchaseCoordinator ticketPurchaseCoordinator;
+
     private TicketController ticketController;
 
     @BeforeEach
     void setUp() {
-        ticketController = new TicketController(ticketService);
+        ticketController = new TicketController(ticketService, ticketPurchaseCoordinator, new TicketMapper());
     }
 
     @Test
@@ -48,7 +63,7 @@ class TicketControllerTest {
                 .participantId(10L)
                 .purchasedAt(Instant.parse("2026-02-16T12:00:00Z"))
                 .build();
-        when(ticketService.purchaseTicket(eventId, authenticatedUser)).thenReturn(response);
+        when(ticketPurchaseCoordinator.purchaseTicket(eventId, authenticatedUser)).thenReturn(response);
 
         ResponseEntity<TicketResponse> entity = ticketController.purchaseTicket(eventId, authenticatedUser);
 
@@ -63,7 +78,7 @@ class TicketControllerTest {
     void postTicketPurchaseReturns404WhenEventNotFound() {
         Long eventId = 999L;
         User authenticatedUser = authenticatedUser(10L);
-        when(ticketService.purchaseTicket(eventId, authenticatedUser))
+        when(ticketPurchaseCoordinator.purchaseTicket(eventId, authenticatedUser))
                 .thenThrow(new ResourceNotFoundException("Event not found with id: 999"));
 
         assertThatThrownBy(() -> ticketController.purchaseTicket(eventId, authenticatedUser))
@@ -76,7 +91,7 @@ class TicketControllerTest {
     void postTicketPurchaseReturns409WhenEventIsFull() {
         Long eventId = 1L;
         User authenticatedUser = authenticatedUser(10L);
-        when(ticketService.purchaseTicket(eventId, authenticatedUser))
+        when(ticketPurchaseCoordinator.purchaseTicket(eventId, authenticatedUser))
                 .thenThrow(new EventFullException(eventId));
 
         assertThatThrownBy(() -> ticketController.purchaseTicket(eventId, authenticatedUser))
@@ -89,7 +104,7 @@ class TicketControllerTest {
     void postTicketPurchaseReturns409WhenDuplicate() {
         Long eventId = 1L;
         User authenticatedUser = authenticatedUser(10L);
-        when(ticketService.purchaseTicket(eventId, authenticatedUser))
+        when(ticketPurchaseCoordinator.purchaseTicket(eventId, authenticatedUser))
                 .thenThrow(new DuplicateTicketException(eventId, 10L));
 
         assertThatThrownBy(() -> ticketController.purchaseTicket(eventId, authenticatedUser))
@@ -102,19 +117,26 @@ class TicketControllerTest {
     void getMyTicketsReturns200AndHistory() {
         Long participantId = 10L;
         User authenticatedUser = authenticatedUser(participantId);
-        TicketResponse ticket = TicketResponse.builder()
+        TicketHistoryResponse ticket = TicketHistoryResponse.builder()
                 .id(100L)
                 .eventId(1L)
-                .participantId(participantId)
+                .eventName("JavaConf")
+                .eventDate(LocalDate.parse("2026-03-20"))
                 .purchasedAt(Instant.parse("2026-02-16T12:00:00Z"))
                 .build();
-        when(ticketService.listTicketsByAuthenticatedUser(authenticatedUser)).thenReturn(List.of(ticket));
+        CursorPage<TicketHistoryResponse> page = CursorPage.<TicketHistoryResponse>builder()
+                .content(List.of(ticket))
+                .size(20)
+                .hasNext(false)
+                .build();
+        when(ticketService.listTicketsByAuthenticatedUser(authenticatedUser, null, 20)).thenReturn(page);
 
-        ResponseEntity<List<TicketResponse>> entity = ticketController.listMyTickets(authenticatedUser);
+        ResponseEntity<CursorPage<TicketHistoryResponse>> entity =
+                ticketController.listMyTickets(authenticatedUser, null, 20);
 
         assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(entity.getBody()).hasSize(1);
-        assertThat(entity.getBody().getFirst().getParticipantId()).isEqualTo(10L);
+        assertThat(entity.getBody().getContent()).hasSize(1);
+        assertThat(entity.getBody().getContent().getFirst().getEventName()).isEqualTo("JavaConf");
     }
 
     @Test
@@ -122,19 +144,121 @@ class TicketControllerTest {
     void getMyTicketsReturns404WhenParticipantNotFound() {
         Long participantId = 999L;
         User authenticatedUser = authenticatedUser(participantId);
-        when(ticketService.listTicketsByAuthenticatedUser(authenticatedUser))
+        when(ticketService.listTicketsByAuthenticatedUser(authenticatedUser, null, 20))
                 .thenThrow(new ResourceNotFoundException("Participant not found with id: 999"));
 
-        assertThatThrownBy(() -> ticketController.listMyTickets(authenticatedUser))
+        assertThatThrownBy(() -> ticketController.listMyTickets(authenticatedUser, null, 20))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Participant not found with id: 999");
     }
 
+    @Test
+    @DisplayName("returns 201 when every bulk item is purchased, defaulting to the authenticated participant")
+    void postBulkPurchaseReturns201WhenAllItemsPurchased() {
+        User authenticatedUser = authenticatedUser(10L);
+        BulkTicketPurchaseRequest request = BulkTicketPurchaseRequest.builder()
+                .items(List.of(
+                        BulkTicketPurchaseItem.builder().eventId(1L).build(),
+                        BulkTicketPurchaseItem.builder().eventId(2L).participantId(10L).build()))
+                .atomic(true)
+                .build();
+        List<TicketPurchaseItem> items = List.of(new TicketPurchaseItem(1L, 10L), new TicketPurchaseItem(2L, 10L));
+        when(ticketService.purchaseTickets(items, true)).thenReturn(List.of(
+                TicketPurchaseOutcome.success(1L, 10L, TicketResponse.builder().id(100L).build()),
+                TicketPurchaseOutcome.success(2L, 10L, TicketResponse.builder().id(101L).build())));
+
+        ResponseEntity<BulkTicketPurchaseResponse> entity =
+                ticketController.purchaseTickets(request, authenticatedUser);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(entity.getBody().getPurchased()).isEqualTo(2);
+        assertThat(entity.getBody().getFailed()).isZero();
+        assertThat(entity.getBody().getResults())
+                .extracting(result -> result.getTicket().getId())
+                .containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("returns 200 with per-item errors when some bulk items fail")
+    void postBulkPurchaseReturns200WhenSomeItemsFail() {
+        User authenticatedUser = authenticatedUser(10L);
+        BulkTicketPurchaseRequest request = BulkTicketPurchaseRequest.builder()
+                .items(List.of(
+                        BulkTicketPurchaseItem.builder().eventId(1L).build(),
+                        BulkTicketPurchaseItem.builder().eventId(2L).build()))
+                .build();
+        List<TicketPurchaseItem> items = List.of(new TicketPurchaseItem(1L, 10L), new TicketPurchaseItem(2L, 10L));
+        when(ticketService.purchaseTickets(items, false)).thenReturn(List.of(
+                TicketPurchaseOutcome.success(1L, 10L, TicketResponse.builder().id(100L).build()),
+                TicketPurchaseOutcome.failure(2L, 10L, new EventFullException(2L))));
+
+        ResponseEntity<BulkTicketPurchaseResponse> entity =
+                ticketController.purchaseTickets(request, authenticatedUser);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody().getPurchased()).isEqualTo(1);
+        assertThat(entity.getBody().getFailed()).isEqualTo(1);
+        TicketPurchaseResult failure = entity.getBody().getResults().get(1);
+        assertThat(failure.getTicket()).isNull();
+        assertThat(failure.getErrorCode()).isEqualTo("EVENT_FULL");
+        assertThat(failure.getErrorMessage()).isEqualTo("Event with id 2 is full");
+    }
+
+    @Test
+    @DisplayName("rejects a bulk purchase naming another participant when the caller is not an admin")
+    void postBulkPurchaseRejectsForeignParticipantForUser() {
+        User authenticatedUser = authenticatedUser(10L);
+        BulkTicketPurchaseRequest request = BulkTicketPurchaseRequest.builder()
+                .items(List.of(
+                        BulkTicketPurchaseItem.builder().eventId(1L).build(),
+                        BulkTicketPurchaseItem.builder().eventId(1L).participantId(11L).build()))
+                .build();
+
+        assertThatThrownBy(() -> ticketController.purchaseTickets(request, authenticatedUser))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Only administrators can purchase tickets for other participants");
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    @DisplayName("lets an admin purchase tickets in bulk for the participants named in the items")
+    void postBulkPurchaseAllowsAdminToNameParticipants() {
+        User adminUser = adminUserWithoutParticipant();
+        BulkTicketPurchaseRequest request = BulkTicketPurchaseRequest.builder()
+                .items(List.of(
+                        BulkTicketPurchaseItem.builder().eventId(1L).participantId(11L).build(),
+                        BulkTicketPurchaseItem.builder().eventId(1L).participantId(12L).build()))
+                .build();
+        List<TicketPurchaseItem> items = List.of(new TicketPurchaseItem(1L, 11L), new TicketPurchaseItem(1L, 12L));
+        when(ticketService.purchaseTickets(items, false)).thenReturn(List.of(
+                TicketPurchaseOutcome.success(1L, 11L, TicketResponse.builder().id(100L).build()),
+                TicketPurchaseOutcome.success(1L, 12L, TicketResponse.builder().id(101L).build())));
+
+        ResponseEntity<BulkTicketPurchaseResponse> entity = ticketController.purchaseTickets(request, adminUser);
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(entity.getBody().getPurchased()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rejects a bulk item without participant id when the admin has no participant profile")
+    void postBulkPurchaseRejectsAdminItemWithoutParticipant() {
+        User adminUser = adminUserWithoutParticipant();
+        BulkTicketPurchaseRequest request = BulkTicketPurchaseRequest.builder()
+                .items(List.of(BulkTicketPurchaseItem.builder().eventId(1L).build()))
+                .build();
+
+        assertThatThrownBy(() -> ticketController.purchaseTickets(request, adminUser))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("A participant id is required for users without a participant profile");
+        verifyNoInteractions(ticketService);
+    }
+
     @Test
     @DisplayName("throws 403-equivalent exception when user has no participant profile")
     void postTicketPurchaseThrowsWhenUserHasNoParticipantProfile() {
         User adminUser = adminUserWithoutParticipant();
-        when(ticketService.purchaseTicket(1L, adminUser))
+        when(ticketPurchaseCoordinator.purchaseTicket(1L, adminUser))
                 .thenThrow(new AccessDeniedException("Only users with a participant profile can access tickets"));
 
         assertThatThrownBy(() -> ticketController.purchaseTicket(1L, adminUser))
@@ -1,19 +1,30 @@
 package com.larissafalcao.eventhub_api.controller;
 
 import com.larissafalcao.eventhub_api.config.SecurityConfig;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Role;
+import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.exception.GlobalExceptionHandler;
+import com.larissafalcao.eventhub_api.mapper.TicketMapper;
 import com.larissafalcao.eventhub_api.security.JwtAuthenticationFilter;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
+import com.larissafalcao.eventhub_api.service.TicketPurchaseCoordinator;
 import com.larissafalcao.eventhub_api.service.TicketService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -21,7 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TicketController.class)
-@Import({SecurityConfig.class, JwtAuthenticationFilter.class})
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, GlobalExceptionHandler.class})
 class TicketSecurityTest {
 
     @Autowired
@@ -30,12 +41,21 @@ class TicketSecurityTest {
     @MockitoBean
     private TicketService ticketService;
 
+    @MockitoBean
+    private TicketPurchaseCoordinator ticketPurchaseCoordinator;
+
+    @MockitoBean
+    private TicketMapper ticketMapper;
+
     @MockitoBean
     private JwtService jwtService;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Test
     @DisplayName("returns 401 when purchasing ticket without authentication")
     void purchaseTicketReturns401WithoutAuthentication() throws Exception {
@@ -61,4 +81,47 @@ class TicketSecurityTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
     }
+
+    @Test
+    @DisplayName("lets admin purchase tickets in bulk for named participants")
+    void bulkPurchaseAllowedForAdminRole() throws Exception {
+        User admin = User.builder()
+                .id(99L)
+                .name("System Admin")
+                .email("admin@email.com")
+                .password("encoded-password")
+                .role(Role.ADMIN)
+                .build();
+
+        mockMvc.perform(post("/tickets/bulk")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(admin, null, admin.getAuthorities())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"eventId": 1, "participantId": 12}]}
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("returns 403 when a user names another participant in a bulk purchase")
+    void bulkPurchaseReturns403ForForeignParticipant() throws Exception {
+        User buyer = User.builder()
+                .id(1L)
+                .name("Alice")
+                .email("alice@email.com")
+                .password("encoded-password")
+                .role(Role.USER)
+                .participant(Participant.builder().id(10L).name("Alice").email("alice@email.com").build())
+                .build();
+
+        mockMvc.perform(post("/tickets/bulk")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(buyer, null, buyer.getAuthorities())))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"eventId": 1, "participantId": 11}]}
+                                """))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code", is("ACCESS_DENIED")));
+        verifyNoInteractions(ticketService);
+    }
 }
@@ -1,34 +1,81 @@
 package com.larissafalcao.eventhub_api.listener;
 
 import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationDispatcher;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationSender;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
-@ExtendWith(OutputCaptureExtension.class)
+@ExtendWith(MockitoExtension.class)
 class TicketPurchasedListenerTest {
 
-    private final TicketPurchasedListener listener = new TicketPurchasedListener();
+    @Mock
+    private TicketConfirmationDispatcher ticketConfirmationDispatcher;
+
+    @Mock
+    private TicketConfirmationSender ticketConfirmationSender;
+
+    private final TicketPurchasedEvent event = new TicketPurchasedEvent(
+            123L,
+            "Alice",
+            "alice@email.com",
+            "JavaConf",
+            Instant.parse("2026-02-16T12:00:00Z"));
 
     @Test
-    @DisplayName("onTicketPurchased: logs mocked confirmation email details")
-    void onTicketPurchasedLogsMockedConfirmationEmailDetails(CapturedOutput output) {
-        TicketPurchasedEvent event = new TicketPurchasedEvent(
-                123L,
-                "Alice",
-                "alice@email.com",
-                "JavaConf",
-                Instant.parse("2026-02-16T12:00:00Z"));
+    @DisplayName("onTicketPurchased: hands the confirmation to the dispatcher")
+    void onTicketPurchasedEnqueuesConfirmation() {
+        TicketPurchasedListener listener = new TicketPurchasedListener(ticketConfirmationDispatcher, ticketConfirmationSender, false);
 
         listener.onTicketPurchased(event);
 
-        assertThat(output.getOut())
-                .contains("[EMAIL] Confirmation sent to Alice (alice@email.com) for event \"JavaConf\" - Ticket #123");
+        verify(ticketConfirmationDispatcher).enqueue(event);
+    }
+
+    @Test
+    @DisplayName("onTicketPurchased: leaves the confirmation to the outbox relay when the outbox is enabled")
+    void onTicketPurchasedSkipsDispatchWhenOutboxIsEnabled() {
+        TicketPurchasedListener listener = new TicketPurchasedListener(ticketConfirmationDispatcher, ticketConfirmationSender, true);
+
+        listener.onTicketPurchased(event);
+
+        verify(ticketConfirmationDispatcher, never()).enqueue(event);
+    }
+
+    @Test
+    @DisplayName("handle: sends the relayed confirmation synchronously, bypassing the dispatcher queue")
+    void handleSendsConfirmationSynchronously() {
+        TicketPurchasedListener listener = new TicketPurchasedListener(
+                ticketConfirmationDispatcher, ticketConfirmationSender, true);
+
+        listener.handle(event);
+
+        verify(ticketConfirmationSender).send(List.of(event));
+        verifyNoInteractions(ticketConfirmationDispatcher);
+    }
+
+    @Test
+    @DisplayName("handle: propagates a failed send so the relay keeps the row pending")
+    void handleFailsWhenSendFails() {
+        TicketPurchasedListener listener = new TicketPurchasedListener(
+                ticketConfirmationDispatcher, ticketConfirmationSender, true);
+        doThrow(new IllegalStateException("mail server unavailable"))
+                .when(ticketConfirmationSender).send(List.of(event));
+
+        assertThatThrownBy(() -> listener.handle(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("mail server unavailable");
     }
 }
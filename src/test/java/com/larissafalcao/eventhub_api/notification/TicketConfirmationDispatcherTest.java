@@ -0,0 +1,196 @@
+package com.larissafalcao.eventhub_api.notification;
+
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketConfirmationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TicketConfirmationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null && dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("enqueue: sends queued confirmations in batches and records dispatch latency")
+    void enqueueSendsConfirmationsInBatches() {
+        RecordingSender sender = new RecordingSender(0);
+        dispatcher = dispatcher(sender, 100, 10, 3);
+        sender.block();
+        dispatcher.start();
+
+        for (long ticketId = 1; ticketId <= 25; ticketId++) {
+            assertThat(dispatcher.enqueue(confirmation(ticketId))).isTrue();
+        }
+        sender.unblock();
+        dispatcher.stop();
+
+        assertThat(sender.sentTicketIds()).hasSize(25).doesNotHaveDuplicates();
+        assertThat(sender.batchSizes()).allSatisfy(size -> assertThat(size).isBetween(1, 10));
+        assertThat(meterRegistry.get("tickets.confirmation.dispatch.latency").timer().count()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("enqueue: retries a failed batch with backoff until it is sent")
+    void enqueueRetriesFailedBatch() {
+        RecordingSender sender = new RecordingSender(2);
+        dispatcher = dispatcher(sender, 100, 10, 3);
+        dispatcher.start();
+
+        dispatcher.enqueue(confirmation(1L));
+        dispatcher.stop();
+
+        assertThat(sender.attempts()).isEqualTo(3);
+        assertThat(sender.sentTicketIds()).containsExactly(1L);
+        assertThat(droppedCount("send_failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("enqueue: drops the batch once every attempt has failed")
+    void enqueueDropsBatchAfterMaxAttempts() {
+        RecordingSender sender = new RecordingSender(Integer.MAX_VALUE);
+        dispatcher = dispatcher(sender, 100, 10, 3);
+        dispatcher.start();
+
+        dispatcher.enqueue(confirmation(1L));
+        dispatcher.stop();
+
+        assertThat(sender.attempts()).isEqualTo(3);
+        assertThat(sender.sentTicketIds()).isEmpty();
+        assertThat(droppedCount("send_failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("enqueue: drops confirmations when the queue stays full")
+    void enqueueDropsWhenQueueIsFull() {
+        RecordingSender sender = new RecordingSender(0);
+        dispatcher = dispatcher(sender, 2, 1, 1);
+        sender.block();
+        dispatcher.start();
+
+        List<Boolean> accepted = new ArrayList<>();
+        for (long ticketId = 1; ticketId <= 4; ticketId++) {
+            accepted.add(dispatcher.enqueue(confirmation(ticketId)));
+        }
+        sender.unblock();
+        dispatcher.stop();
+
+        assertThat(accepted).contains(false);
+        assertThat(droppedCount("queue_full")).isEqualTo(accepted.stream().filter(ok -> !ok).count());
+        assertThat(meterRegistry.get("tickets.confirmation.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("stop: drains queued confirmations before completing and rejects new ones")
+    void stopDrainsQueueBeforeCallback() throws InterruptedException {
+        RecordingSender sender = new RecordingSender(0);
+        dispatcher = dispatcher(sender, 100, 10, 3);
+        sender.block();
+        dispatcher.start();
+        for (long ticketId = 1; ticketId <= 5; ticketId++) {
+            dispatcher.enqueue(confirmation(ticketId));
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        dispatcher.stop(stopped::countDown);
+        assertThat(dispatcher.enqueue(confirmation(6L))).isFalse();
+        assertThat(stopped.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        sender.unblock();
+
+        assertThat(stopped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sender.sentTicketIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(droppedCount("stopped")).isEqualTo(1.0);
+    }
+
+    private TicketConfirmationDispatcher dispatcher(
+            TicketConfirmationSender sender, int queueCapacity, int batchSize, int maxAttempts) {
+        return new TicketConfirmationDispatcher(
+                sender,
+                meterRegistry,
+                queueCapacity,
+                batchSize,
+                Duration.ofMillis(10),
+                maxAttempts,
+                Duration.ofMillis(1),
+                Duration.ofMillis(5));
+    }
+
+    private double droppedCount(String reason) {
+        return meterRegistry.get("tickets.confirmation.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static TicketPurchasedEvent confirmation(Long ticketId) {
+        return new TicketPurchasedEvent(
+                ticketId,
+                "Alice",
+                "alice@email.com",
+                "JavaConf",
+                Instant.parse("2026-02-16T12:00:00Z"));
+    }
+
+    private static final class RecordingSender implements TicketConfirmationSender {
+
+        private final List<Long> sentTicketIds = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final int failuresBeforeSuccess;
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        private RecordingSender(int failuresBeforeSuccess) {
+            this.failuresBeforeSuccess = failuresBeforeSuccess;
+        }
+
+        @Override
+        public void send(List<TicketPurchasedEvent> confirmations) {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (attempts.incrementAndGet() <= failuresBeforeSuccess) {
+                throw new IllegalStateException("mail server unavailable");
+            }
+            batchSizes.add(confirmations.size());
+            confirmations.forEach(confirmation -> sentTicketIds.add(confirmation.ticketId()));
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        List<Long> sentTicketIds() {
+            return List.copyOf(sentTicketIds);
+        }
+
+        List<Integer> batchSizes() {
+            return List.copyOf(batchSizes);
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+    }
+}
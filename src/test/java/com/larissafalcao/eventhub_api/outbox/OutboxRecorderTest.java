@@ -0,0 +1,48 @@
+package com.larissafalcao.eventhub_api.outbox;
+
+import com.larissafalcao.eventhub_api.entity.OutboxEvent;
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import com.larissafalcao.eventhub_api.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRecorderTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("onTicketPurchased: stores the event as a pending outbox row")
+    void onTicketPurchasedStoresPendingOutboxRow() {
+        OutboxRecorder recorder = new OutboxRecorder(outboxEventRepository, jsonMapper);
+        TicketPurchasedEvent event = new TicketPurchasedEvent(
+                123L,
+                "Alice",
+                "alice@email.com",
+                "JavaConf",
+                Instant.parse("2026-02-16T12:00:00Z"));
+
+        recorder.onTicketPurchased(event);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent outboxEvent = captor.getValue();
+        assertThat(outboxEvent.getEventType()).isEqualTo("TicketPurchasedEvent");
+        assertThat(jsonMapper.readValue(outboxEvent.getPayload(), TicketPurchasedEvent.class)).isEqualTo(event);
+        assertThat(outboxEvent.getDeliveredAt()).isNull();
+        assertThat(outboxEvent.getAvailableAt()).isEqualTo(outboxEvent.getCreatedAt());
+    }
+}
@@ -0,0 +1,225 @@
+package com.larissafalcao.eventhub_api.outbox;
+
+import com.larissafalcao.eventhub_api.entity.OutboxEvent;
+import com.larissafalcao.eventhub_api.entity.OutboxStatus;
+import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
+import com.larissafalcao.eventhub_api.listener.TicketPurchasedListener;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationDispatcher;
+import com.larissafalcao.eventhub_api.notification.TicketConfirmationSender;
+import com.larissafalcao.eventhub_api.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingHandler handler = new RecordingHandler();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TicketConfirmationDispatcher ticketConfirmationDispatcher;
+
+    @Mock
+    private TicketConfirmationSender ticketConfirmationSender;
+
+    @Test
+    @DisplayName("relayPending: hands claimed events to their handler and marks them delivered")
+    void relayPendingDeliversClaimedEvents() {
+        OutboxEvent first = outboxEvent(1L, "TicketPurchasedEvent", purchase(10L));
+        OutboxEvent second = outboxEvent(2L, "TicketPurchasedEvent", purchase(11L));
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(10))).thenReturn(List.of(first, second));
+
+        relay(10).relayPending();
+
+        assertThat(handler.handledTicketIds).containsExactly(10L, 11L);
+        assertThat(first.getDeliveredAt()).isNotNull();
+        assertThat(second.getDeliveredAt()).isNotNull();
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+        assertThat(meterRegistry.get("tickets.outbox.relayed").tag("outcome", "delivered").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("relayPending: keeps claiming while full batches are returned")
+    void relayPendingClaimsUntilBatchIsNotFull() {
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(2)))
+                .thenReturn(List.of(
+                        outboxEvent(1L, "TicketPurchasedEvent", purchase(10L)),
+                        outboxEvent(2L, "TicketPurchasedEvent", purchase(11L))))
+                .thenReturn(List.of(outboxEvent(3L, "TicketPurchasedEvent", purchase(12L))));
+
+        relay(2).relayPending();
+
+        verify(outboxEventRepository, times(2)).claimPending(any(Instant.class), anyInt());
+        assertThat(handler.handledTicketIds).containsExactly(10L, 11L, 12L);
+    }
+
+    @Test
+    @DisplayName("relayPending: leaves failed events pending with a delayed retry")
+    void relayPendingSchedulesRetryForFailedEvents() {
+        handler.failing = true;
+        OutboxEvent outboxEvent = outboxEvent(1L, "TicketPurchasedEvent", purchase(10L));
+        Instant before = Instant.now();
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(10))).thenReturn(List.of(outboxEvent));
+
+        relay(10).relayPending();
+
+        assertThat(outboxEvent.getDeliveredAt()).isNull();
+        assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEvent.getLastError()).isEqualTo("mail server unavailable");
+        assertThat(outboxEvent.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(5));
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(meterRegistry.get("tickets.outbox.relayed").tag("outcome", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("relayPending: marks an event FAILED once it runs out of attempts")
+    void relayPendingGivesUpAfterMaxAttempts() {
+        handler.failing = true;
+        OutboxEvent outboxEvent = outboxEvent(1L, "TicketPurchasedEvent", purchase(10L));
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(10))).thenReturn(List.of(outboxEvent));
+        OutboxRelay relay = relay(10);
+
+        relay.relayPending();
+        relay.relayPending();
+        relay.relayPending();
+
+        assertThat(outboxEvent.getAttempts()).isEqualTo(3);
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(outboxEvent.getDeliveredAt()).isNull();
+        assertThat(outboxEvent.getLastError()).isEqualTo("mail server unavailable");
+        assertThat(meterRegistry.get("tickets.outbox.relayed").tag("outcome", "failed").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("tickets.outbox.relayed").tag("outcome", "dead").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("relayPending: keeps a recorded confirmation pending when sending it fails")
+    void relayPendingKeepsConfirmationPendingWhenSendFails() {
+        doThrow(new IllegalStateException("mail server unavailable")).when(ticketConfirmationSender).send(any());
+        OutboxEvent outboxEvent = outboxEvent(1L, "TicketPurchasedEvent", purchase(10L));
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(10))).thenReturn(List.of(outboxEvent));
+        OutboxRelay relay = new OutboxRelay(
+                outboxEventRepository,
+                List.of(new TicketPurchasedListener(ticketConfirmationDispatcher, ticketConfirmationSender, true)),
+                jsonMapper,
+                transactionManager,
+                meterRegistry,
+                10,
+                Duration.ofSeconds(5),
+                3,
+                Duration.ofDays(7));
+
+        relay.relayPending();
+
+        assertThat(outboxEvent.getDeliveredAt()).isNull();
+        assertThat(outboxEvent.getLastError()).isEqualTo("mail server unavailable");
+        verify(ticketConfirmationDispatcher, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("relayPending: leaves events without a registered handler pending")
+    void relayPendingFailsEventsWithoutHandler() {
+        OutboxEvent outboxEvent = outboxEvent(1L, "UnknownEvent", "{}");
+        when(outboxEventRepository.claimPending(any(Instant.class), eq(10))).thenReturn(List.of(outboxEvent));
+
+        relay(10).relayPending();
+
+        assertThat(outboxEvent.getDeliveredAt()).isNull();
+        assertThat(outboxEvent.getLastError()).isEqualTo("No outbox handler registered for UnknownEvent");
+    }
+
+    @Test
+    @DisplayName("deleteDelivered: removes events delivered before the retention window")
+    void deleteDeliveredRemovesOldEvents() {
+        Instant before = Instant.now();
+
+        relay(10).deleteDelivered();
+
+        verify(outboxEventRepository).deleteDeliveredBefore(
+                argThat(cutoff -> !cutoff.isAfter(Instant.now().minus(Duration.ofDays(7)))
+                        && !cutoff.isBefore(before.minus(Duration.ofDays(7)))));
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(
+                outboxEventRepository,
+                List.of(handler),
+                jsonMapper,
+                transactionManager,
+                meterRegistry,
+                batchSize,
+                Duration.ofSeconds(5),
+                3,
+                Duration.ofDays(7));
+    }
+
+    private String purchase(Long ticketId) {
+        return jsonMapper.writeValueAsString(new TicketPurchasedEvent(
+                ticketId,
+                "Alice",
+                "alice@email.com",
+                "JavaConf",
+                Instant.parse("2026-02-16T12:00:00Z")));
+    }
+
+    private static OutboxEvent outboxEvent(Long id, String eventType, String payload) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(Instant.parse("2026-02-16T12:00:00Z"))
+                .build();
+    }
+
+    private static final class RecordingHandler implements OutboxEventHandler<TicketPurchasedEvent> {
+
+        private final List<Long> handledTicketIds = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public Class<TicketPurchasedEvent> eventType() {
+            return TicketPurchasedEvent.class;
+        }
+
+        @Override
+        public void handle(TicketPurchasedEvent event) {
+            if (failing) {
+                throw new IllegalStateException("mail server unavailable");
+            }
+            handledTicketIds.add(event.ticketId());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Ticket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "events.attendees.export.fetch-size=2")
+@Testcontainers(disabledWithoutDocker = true)
+class AttendeeExportRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("streamAttendeesByEventId: returns the event's tickets with participant data in participant order")
+    void streamAttendeesByEventIdReturnsEventTickets() {
+        Event event = eventRepository.save(event("Check-in"));
+        Event otherEvent = eventRepository.save(event("Other"));
+        List<Participant> participants = participantRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(index -> Participant.builder()
+                        .name("Attendee " + index)
+                        .email("attendee" + index + "@email.com")
+                        .build())
+                .toList());
+        participants.reversed().forEach(participant -> ticketRepository.save(ticket(event, participant)));
+        ticketRepository.save(ticket(otherEvent, participants.getFirst()));
+
+        List<AttendeeResponse> attendees = transactionTemplate.execute(status -> {
+            try (Stream<AttendeeResponse> stream = ticketRepository.streamAttendeesByEventId(event.getId())) {
+                return stream.toList();
+            }
+        });
+
+        assertThat(attendees)
+                .extracting(AttendeeResponse::getParticipantId)
+                .containsExactlyElementsOf(participants.stream().map(Participant::getId).toList());
+        assertThat(attendees.getFirst().getEmail()).isEqualTo("attendee0@email.com");
+        assertThat(attendees.getFirst().getPurchasedAt()).isNotNull();
+    }
+
+    private static Event event(String name) {
+        return Event.builder()
+                .name(name)
+                .date(LocalDate.now().plusDays(7))
+                .location("Arena")
+                .capacity(100)
+                .build();
+    }
+
+    private static Ticket ticket(Event event, Participant participant) {
+        return Ticket.builder()
+                .event(event)
+                .participant(participant)
+                .purchasedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.larissafalcao.eventhub_api.repository;
+
+import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ParticipantUpsertRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Test
+    @DisplayName("upsertByEmail: inserts new emails, renames existing ones and reports which names changed")
+    void upsertByEmailInsertsAndUpdates() {
+        List<CreateParticipantRequest> imported = IntStream.range(0, 120)
+                .mapToObj(index -> new CreateParticipantRequest("Participant " + index, "import" + index + "@email.com"))
+                .toList();
+
+        assertThat(participantRepository.upsertByEmail(imported).inserted()).isEqualTo(120);
+        ParticipantUpsertResult result = participantRepository.upsertByEmail(List.of(
+                new CreateParticipantRequest("Renamed", "import0@email.com"),
+                new CreateParticipantRequest("Participant 1", "import1@email.com"),
+                new CreateParticipantRequest("Newcomer", "newcomer@email.com")));
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.renamedEmails()).containsExactly("import0@email.com");
+
+        Participant saved = participantRepository.save(Participant.builder()
+                .name("Saved")
+                .email("saved@email.com")
+                .build());
+        assertThat(participantRepository.count()).isEqualTo(122);
+        assertThat(participantRepository.findAll())
+                .filteredOn(participant -> participant.getEmail().equals("import0@email.com"))
+                .singleElement()
+                .extracting(Participant::getName)
+                .isEqualTo("Renamed");
+        assertThat(saved.getId()).isNotNull();
+    }
+}
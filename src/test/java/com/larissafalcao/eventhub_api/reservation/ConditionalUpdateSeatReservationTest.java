@@ -0,0 +1,74 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateSeatReservationTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private ConditionalUpdateSeatReservation seatReservation;
+
+    @Test
+    @DisplayName("reserveSeat: decrements capacity with a single conditional update")
+    void reserveSeatDecrementsCapacityWithConditionalUpdate() {
+        Event event = Event.builder()
+                .id(1L)
+                .name("JavaConf")
+                .date(LocalDate.now().plusDays(7))
+                .location("Main Hall")
+                .capacity(99)
+                .build();
+        when(eventRepository.decrementCapacity(1L)).thenReturn(Optional.of(event));
+
+        Event reserved = seatReservation.reserveSeat(1L, 10L);
+
+        assertThat(reserved.getCapacity()).isEqualTo(99);
+        verify(eventRepository, never()).findByIdForUpdate(anyLong());
+        verify(eventRepository, never()).findById(anyLong());
+        verify(eventRepository, never()).save(event);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: throws EventFullException when no row was updated")
+    void reserveSeatThrowsEventFullWhenNoRowUpdated() {
+        when(eventRepository.decrementCapacity(1L)).thenReturn(Optional.empty());
+        when(eventRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(1L, 10L))
+                .isInstanceOf(EventFullException.class)
+                .hasMessage("Event with id 1 is full");
+    }
+
+    @Test
+    @DisplayName("reserveSeat: throws ResourceNotFoundException when event does not exist")
+    void reserveSeatThrowsWhenEventDoesNotExist() {
+        when(eventRepository.decrementCapacity(999L)).thenReturn(Optional.empty());
+        when(eventRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(999L, 10L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+    }
+}
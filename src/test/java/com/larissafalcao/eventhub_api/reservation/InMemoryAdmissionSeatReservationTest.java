@@ -0,0 +1,206 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryAdmissionSeatReservationTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long PARTICIPANT_ID = 10L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private InMemoryAdmissionSeatReservation seatReservation;
+
+    @BeforeEach
+    void setUp() {
+        seatReservation = new InMemoryAdmissionSeatReservation(eventRepository, Duration.ofDays(1));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("reserveSeat: decrements database capacity and returns the event")
+    void reserveSeatDecrementsDatabaseCapacity() {
+        Event event = createEvent(4);
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(5));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(event));
+
+        Event reserved = seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID);
+
+        assertThat(reserved).isSameAs(event);
+        verify(eventRepository).decrementCapacity(EVENT_ID);
+        verify(eventRepository, never()).findByIdForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("reserveSeat: answers sold-out events without touching the database again")
+    void reserveSeatRejectsSoldOutEventsFromMemory() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(1));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent(0)));
+        seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID);
+
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID))
+                    .isInstanceOf(EventFullException.class)
+                    .hasMessage("Event with id 1 is full");
+        }
+
+        verify(eventRepository, times(1)).findCapacityById(EVENT_ID);
+        verify(eventRepository, times(1)).decrementCapacity(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: rechecks the database once a counter reaches zero")
+    void reserveSeatRechecksExhaustedCounter() {
+        seatReservation = new InMemoryAdmissionSeatReservation(eventRepository, Duration.ZERO);
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(0), Optional.of(2));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent(1)));
+
+        assertThat(seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID)).isNotNull();
+
+        verify(eventRepository, times(2)).findCapacityById(EVENT_ID);
+        verify(eventRepository).decrementCapacity(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: gives the seat back when the transaction rolls back")
+    void reserveSeatReleasesSeatOnRollback() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(1));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent(0)));
+        seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID)).isNotNull();
+        verify(eventRepository, times(2)).decrementCapacity(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: reloads capacity after the database reports the event as full")
+    void reserveSeatResynchronizesWhenDatabaseIsFull() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(3), Optional.of(0));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID))
+                .isInstanceOf(EventFullException.class);
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID))
+                .isInstanceOf(EventFullException.class);
+
+        verify(eventRepository, times(2)).findCapacityById(EVENT_ID);
+        verify(eventRepository, times(1)).decrementCapacity(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("onEventModified: drops the counter so the next purchase reloads capacity")
+    void onEventModifiedDropsCounter() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(0), Optional.of(1));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent(0)));
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID))
+                .isInstanceOf(EventFullException.class);
+
+        seatReservation.onEventModified(new EventModifiedEvent(EVENT_ID));
+
+        assertThat(seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("reserveSeat: throws ResourceNotFoundException when event does not exist")
+    void reserveSeatThrowsWhenEventDoesNotExist() {
+        when(eventRepository.findCapacityById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(999L, PARTICIPANT_ID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+    }
+
+    @Test
+    @DisplayName("reserveSeat: never hands out more seats than capacity under contention")
+    void reserveSeatNeverOversellsUnderContention() throws Exception {
+        int capacity = 100;
+        int attempts = 2_000;
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(capacity));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent(0)));
+
+        Callable<Boolean> purchase = () -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                seatReservation.reserveSeat(EVENT_ID, PARTICIPANT_ID);
+                return true;
+            } catch (EventFullException ex) {
+                return false;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        };
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(purchase));
+            }
+        }
+
+        long sold = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                sold++;
+            }
+        }
+        assertThat(sold).isEqualTo(capacity);
+        verify(eventRepository, times(capacity)).decrementCapacity(EVENT_ID);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Event createEvent(Integer capacity) {
+        return Event.builder()
+                .id(EVENT_ID)
+                .name("JavaConf")
+                .date(LocalDate.now().plusDays(7))
+                .location("Main Hall")
+                .capacity(capacity)
+                .build();
+    }
+}
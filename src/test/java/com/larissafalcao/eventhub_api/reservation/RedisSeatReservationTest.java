@@ -0,0 +1,151 @@
+package com.larissafalcao.eventhub_api.reservation;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
+import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSeatReservationTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisSeatReservation seatReservation;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        seatReservation = new RedisSeatReservation(
+                redisTemplate, eventRepository, ticketRepository, Duration.ofMinutes(5));
+        when(eventRepository.decrementCapacity(EVENT_ID)).thenReturn(Optional.of(createEvent()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("reserveSeat: loads inventory once and rejects sold-out events from Redis")
+    void reserveSeatRejectsSoldOutEventsFromRedis() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(2));
+        when(ticketRepository.findParticipantIdsByEventId(EVENT_ID)).thenReturn(List.of());
+
+        seatReservation.reserveSeat(EVENT_ID, 10L);
+        seatReservation.reserveSeat(EVENT_ID, 11L);
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, 12L))
+                .isInstanceOf(EventFullException.class);
+        verify(eventRepository, times(1)).findCapacityById(EVENT_ID);
+        verify(eventRepository, times(2)).decrementCapacity(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: rejects participants that already hold a ticket")
+    void reserveSeatRejectsDuplicateParticipants() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(5));
+        when(ticketRepository.findParticipantIdsByEventId(EVENT_ID)).thenReturn(List.of(10L));
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, 10L))
+                .isInstanceOf(DuplicateTicketException.class)
+                .hasMessage("Participant 10 already has a ticket for event 1");
+        seatReservation.reserveSeat(EVENT_ID, 11L);
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, 11L))
+                .isInstanceOf(DuplicateTicketException.class);
+    }
+
+    @Test
+    @DisplayName("reserveSeat: loads participants in several batches and leaves no staging set behind")
+    void reserveSeatLoadsParticipantsInBatches() {
+        List<Long> participantIds = LongStream.rangeClosed(1, 2_500).boxed().toList();
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(5));
+        when(ticketRepository.findParticipantIdsByEventId(EVENT_ID)).thenReturn(participantIds);
+
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, 2_400L))
+                .isInstanceOf(DuplicateTicketException.class);
+
+        assertThat(redisTemplate.opsForSet().size("eventhub:seats:{1}:participants")).isEqualTo(2_500L);
+        assertThat(redisTemplate.keys("eventhub:seats:{1}:loading:*")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reserveSeat: gives the seat back when the transaction rolls back")
+    void reserveSeatReleasesSeatOnRollback() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(1));
+        when(ticketRepository.findParticipantIdsByEventId(EVENT_ID)).thenReturn(List.of());
+        seatReservation.reserveSeat(EVENT_ID, 10L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(seatReservation.reserveSeat(EVENT_ID, 10L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("onEventModified: drops the inventory so the next purchase reloads it")
+    void onEventModifiedDropsInventory() {
+        when(eventRepository.findCapacityById(EVENT_ID)).thenReturn(Optional.of(0), Optional.of(1));
+        when(ticketRepository.findParticipantIdsByEventId(EVENT_ID)).thenReturn(List.of());
+        assertThatThrownBy(() -> seatReservation.reserveSeat(EVENT_ID, 10L))
+                .isInstanceOf(EventFullException.class);
+
+        seatReservation.onEventModified(new EventModifiedEvent(EVENT_ID));
+
+        assertThat(seatReservation.reserveSeat(EVENT_ID, 10L)).isNotNull();
+    }
+
+    private static Event createEvent() {
+        return Event.builder()
+                .id(EVENT_ID)
+                .name("JavaConf")
+                .date(LocalDate.now().plusDays(7))
+                .location("Main Hall")
+                .capacity(0)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.larissafalcao.eventhub_api.security;
+
+import com.larissafalcao.eventhub_api.entity.Role;
+import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.event.UserChangedEvent;
+import com.larissafalcao.eventhub_api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final User user = User.builder()
+            .id(1L)
+            .name("Alice")
+            .email("alice@email.com")
+            .password("encoded-password")
+            .role(Role.USER)
+            .build();
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CustomUserDetailsService(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername: serves repeated lookups from the cache")
+    void loadUserByUsernameCachesUser() {
+        when(userRepository.findByEmail("alice@email.com")).thenReturn(Optional.of(user));
+
+        assertThat(userDetailsService.loadUserByUsername("alice@email.com")).isSameAs(user);
+        assertThat(userDetailsService.loadUserByUsername("alice@email.com")).isSameAs(user);
+
+        verify(userRepository, times(1)).findByEmail("alice@email.com");
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername: throws and does not cache unknown users")
+    void loadUserByUsernameDoesNotCacheUnknownUser() {
+        when(userRepository.findByEmail("ghost@email.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost@email.com"))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessage("User not found with email: ghost@email.com");
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("ghost@email.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userRepository, times(2)).findByEmail("ghost@email.com");
+    }
+
+    @Test
+    @DisplayName("onUserChanged: evicts the cached user so the next lookup reloads it")
+    void onUserChangedEvictsCachedUser() {
+        when(userRepository.findByEmail("alice@email.com")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("alice@email.com");
+
+        userDetailsService.onUserChanged(new UserChangedEvent("alice@email.com"));
+        userDetailsService.loadUserByUsername("alice@email.com");
+
+        verify(userRepository, times(2)).findByEmail("alice@email.com");
+        assertThat(meterRegistry.get("cache.size").tag("cache", "users").gauge().value()).isEqualTo(1.0);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "users").tag("result", result)
+                .functionCounter().count();
+    }
+}
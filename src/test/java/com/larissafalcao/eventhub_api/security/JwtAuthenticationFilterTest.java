@@ -0,0 +1,108 @@
+package com.larissafalcao.eventhub_api.security;
+
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Role;
+import com.larissafalcao.eventhub_api.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "default-dev-secret-key-min-256-bits-long-for-hmac-sha";
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000L);
+    private final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(60_000L);
+    private final User user = User.builder()
+            .id(1L)
+            .name("Alice")
+            .email("alice@email.com")
+            .password("encoded-password")
+            .role(Role.USER)
+            .participant(Participant.builder()
+                    .id(10L)
+                    .name("Alice")
+                    .email("alice@email.com")
+                    .build())
+            .build();
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilter: loads the user from the database in stateful mode")
+    void doFilterLoadsUserInStatefulMode() throws Exception {
+        when(userDetailsService.loadUserByUsername("alice@email.com")).thenReturn(user);
+
+        filter(false).doFilter(request(jwtService.generateToken(user)), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("doFilter: builds the principal from token claims in stateless mode")
+    void doFilterBuildsPrincipalFromClaimsInStatelessMode() throws Exception {
+        filter(true).doFilter(request(jwtService.generateToken(user)), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(User.class, principal -> {
+            assertThat(principal.getId()).isEqualTo(1L);
+            assertThat(principal.getParticipant().getId()).isEqualTo(10L);
+        });
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("doFilter: leaves the request unauthenticated when the token was revoked")
+    void doFilterRejectsRevokedToken() throws Exception {
+        String token = jwtService.generateToken(user);
+        tokenRevocationRegistry.revokeTokensIssuedBefore(1L, Instant.now());
+
+        filter(true).doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("doFilter: leaves the request unauthenticated when the token is invalid")
+    void doFilterIgnoresInvalidToken() throws Exception {
+        filter(true).doFilter(request("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private JwtAuthenticationFilter filter(boolean stateless) {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, tokenRevocationRegistry, stateless);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/participant/tickets");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
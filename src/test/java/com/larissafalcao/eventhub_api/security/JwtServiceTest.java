@@ -3,10 +3,17 @@ package com.larissafalcao.eventhub_api.security;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtServiceTest {
 
@@ -38,6 +45,70 @@ class JwtServiceTest {
         assertThat(isValid).isFalse();
     }
 
+    @Test
+    @DisplayName("parseToken: returns claims reusable for validation")
+    void parseTokenReturnsClaims() {
+        User user = createUser("alice@email.com", Role.ADMIN);
+        String token = jwtService.generateToken(user);
+
+        Claims claims = jwtService.parseToken(token);
+
+        assertThat(claims.getSubject()).isEqualTo("alice@email.com");
+        assertThat(claims.get("role", String.class)).isEqualTo("ROLE_ADMIN");
+        assertThat(claims.get(JwtService.ISSUED_AT_MILLIS_CLAIM, Long.class))
+                .isBetween(claims.getIssuedAt().getTime(), claims.getIssuedAt().getTime() + 999);
+        assertThat(jwtService.isTokenValid(claims, user)).isTrue();
+    }
+
+    @Test
+    @DisplayName("parseToken: rejects token signed with another secret")
+    void parseTokenRejectsForeignSignature() {
+        JwtService otherService = new JwtService("another-dev-secret-key-min-256-bits-long-for-hmac-sha", 60_000L);
+        String token = otherService.generateToken(createUser("alice@email.com", Role.USER));
+
+        assertThatThrownBy(() -> jwtService.parseToken(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("parseToken: rejects expired token")
+    void parseTokenRejectsExpiredToken() {
+        JwtService expiredService = new JwtService(SECRET, -60_000L);
+        String token = expiredService.generateToken(createUser("alice@email.com", Role.USER));
+
+        assertThatThrownBy(() -> jwtService.parseToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("extractPrincipal: rebuilds user and participant from token claims")
+    void extractPrincipalRebuildsUserFromClaims() {
+        String token = jwtService.generateToken(createUser("alice@email.com", Role.USER));
+
+        Optional<User> principal = jwtService.extractPrincipal(jwtService.parseToken(token));
+
+        assertThat(principal).hasValueSatisfying(user -> {
+            assertThat(user.getId()).isEqualTo(1L);
+            assertThat(user.getName()).isEqualTo("Alice");
+            assertThat(user.getUsername()).isEqualTo("alice@email.com");
+            assertThat(user.getRole()).isEqualTo(Role.USER);
+            assertThat(user.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+            assertThat(user.getParticipant().getId()).isEqualTo(10L);
+        });
+    }
+
+    @Test
+    @DisplayName("extractPrincipal: returns empty for tokens without user claims")
+    void extractPrincipalReturnsEmptyWithoutUserClaims() {
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.withUsername("alice@email.com")
+                .password("encoded-password")
+                .roles("USER")
+                .build();
+        String token = jwtService.generateToken(userDetails);
+
+        assertThat(jwtService.extractPrincipal(jwtService.parseToken(token))).isEmpty();
+    }
+
     private static User createUser(String email, Role role) {
         return User.builder()
                 .id(1L)
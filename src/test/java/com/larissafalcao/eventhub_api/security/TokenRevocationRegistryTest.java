@@ -0,0 +1,79 @@
+package com.larissafalcao.eventhub_api.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private static final Instant ISSUED_AT = Instant.parse("2026-02-16T12:00:00Z");
+
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(60_000L);
+
+    @Test
+    @DisplayName("isRevoked: rejects tokens issued at or before the user's cut-off")
+    void isRevokedRejectsTokensIssuedBeforeCutoff() {
+        registry.revokeTokensIssuedBefore(1L, ISSUED_AT);
+
+        assertThat(registry.isRevoked(claims(1L, ISSUED_AT.minusSeconds(10)))).isTrue();
+        assertThat(registry.isRevoked(claims(1L, ISSUED_AT))).isTrue();
+        assertThat(registry.isRevoked(claims(1L, ISSUED_AT.plusSeconds(1)))).isFalse();
+        assertThat(registry.isRevoked(claims(2L, ISSUED_AT.minusSeconds(10)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRevoked: accepts a token issued after the cut-off within the same second")
+    void isRevokedComparesMilliseconds() {
+        Instant cutoff = ISSUED_AT.plusMillis(500);
+        registry.revokeTokensIssuedBefore(1L, cutoff);
+
+        assertThat(registry.isRevoked(claims(1L, cutoff.minusMillis(200)))).isTrue();
+        assertThat(registry.isRevoked(claims(1L, cutoff.plusMillis(200)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("isRevoked: falls back to whole-second iat for tokens without the millisecond claim")
+    void isRevokedFallsBackToIssuedAt() {
+        registry.revokeTokensIssuedBefore(1L, ISSUED_AT.plusMillis(500));
+
+        assertThat(registry.isRevoked(Jwts.claims()
+                .add(JwtService.USER_ID_CLAIM, 1L)
+                .issuedAt(Date.from(ISSUED_AT))
+                .build())).isTrue();
+    }
+
+    @Test
+    @DisplayName("revokeTokensIssuedBefore: never moves an existing cut-off backwards")
+    void revokeKeepsLatestCutoff() {
+        registry.revokeTokensIssuedBefore(1L, ISSUED_AT);
+        registry.revokeTokensIssuedBefore(1L, ISSUED_AT.minusSeconds(60));
+
+        assertThat(registry.isRevoked(claims(1L, ISSUED_AT.minusSeconds(10)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("purgeExpired: drops cut-offs older than the token lifetime")
+    void purgeExpiredDropsOldCutoffs() {
+        registry.revokeTokensIssuedBefore(1L, Instant.now().minusSeconds(120));
+        registry.revokeTokensIssuedBefore(2L, Instant.now());
+
+        registry.purgeExpired();
+
+        assertThat(registry.isRevoked(claims(1L, Instant.now().minusSeconds(180)))).isFalse();
+        assertThat(registry.isRevoked(claims(2L, Instant.now().minusSeconds(30)))).isTrue();
+    }
+
+    private static Claims claims(Long userId, Instant issuedAt) {
+        return Jwts.claims()
+                .add(JwtService.USER_ID_CLAIM, userId)
+                .add(JwtService.ISSUED_AT_MILLIS_CLAIM, issuedAt.toEpochMilli())
+                .issuedAt(Date.from(issuedAt))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.AttendeeResponse;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttendeeExportServiceTest {
+
+    private static final Instant PURCHASED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private AttendeeExportService attendeeExportService;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        attendeeExportService = new AttendeeExportService(
+                eventRepository, ticketRepository, JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("exportAttendees: writes a CSV header and one quoted-as-needed row per ticket")
+    void exportAttendeesWritesCsv() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(ticketRepository.streamAttendeesByEventId(1L)).thenReturn(Stream.of(
+                        new AttendeeResponse(10L, 2L, "Ana", "ana@email.com", PURCHASED_AT),
+                        new AttendeeResponse(11L, 3L, "Silva, \"Bia\"", "bia@email.com", PURCHASED_AT))
+                .onClose(() -> closed.set(true)));
+
+        long rows = attendeeExportService.exportAttendees(1L, AttendeeExportFormat.CSV, () -> output);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "ticket_id,participant_id,name,email,purchased_at\r\n"
+                        + "10,2,Ana,ana@email.com,2026-03-01T10:15:30Z\r\n"
+                        + "11,3,\"Silva, \"\"Bia\"\"\",bia@email.com,2026-03-01T10:15:30Z\r\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("exportAttendees: writes one JSON object per line for NDJSON")
+    void exportAttendeesWritesNdjson() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(ticketRepository.streamAttendeesByEventId(1L)).thenReturn(Stream.of(
+                new AttendeeResponse(10L, 2L, "Ana", "ana@email.com", PURCHASED_AT)));
+
+        attendeeExportService.exportAttendees(1L, AttendeeExportFormat.NDJSON, () -> output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"ticketId\":10,\"participantId\":2,\"name\":\"Ana\",\"email\":\"ana@email.com\","
+                        + "\"purchasedAt\":\"2026-03-01T10:15:30Z\"}\n");
+    }
+
+    @Test
+    @DisplayName("exportAttendees: writes only the header when the event has no tickets")
+    void exportAttendeesWritesHeaderForEmptyEvent() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(ticketRepository.streamAttendeesByEventId(1L)).thenReturn(Stream.empty());
+
+        long rows = attendeeExportService.exportAttendees(1L, AttendeeExportFormat.CSV, () -> output);
+
+        assertThat(rows).isZero();
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(AttendeeExportService.CSV_HEADER);
+    }
+
+    @Test
+    @DisplayName("exportAttendees: throws before opening the target when event not found")
+    void exportAttendeesThrowsWhenEventNotFound() {
+        AtomicBoolean opened = new AtomicBoolean();
+        when(eventRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> attendeeExportService.exportAttendees(999L, AttendeeExportFormat.CSV, () -> {
+            opened.set(true);
+            return output;
+        }))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+        assertThat(opened).isFalse();
+        verify(ticketRepository, never()).streamAttendeesByEventId(999L);
+    }
+
+    @Test
+    @DisplayName("csvField: quotes fields with separators, quotes or line breaks only")
+    void csvFieldQuotesOnlyWhenNeeded() {
+        assertThat(AttendeeExportService.csvField("Ana")).isEqualTo("Ana");
+        assertThat(AttendeeExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(AttendeeExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(AttendeeExportService.csvField("line\nbreak")).isEqualTo("\"line\nbreak\"");
+        assertThat(AttendeeExportService.csvField(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("csvField: prefixes values a spreadsheet would evaluate as formulas")
+    void csvFieldEscapesFormulas() {
+        assertThat(AttendeeExportService.csvField("=HYPERLINK(\"http://x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(AttendeeExportService.csvField("+1 555")).isEqualTo("'+1 555");
+        assertThat(AttendeeExportService.csvField("-2+3")).isEqualTo("'-2+3");
+        assertThat(AttendeeExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(AttendeeExportService.csvField("ana@email.com")).isEqualTo("ana@email.com");
+        assertThat(AttendeeExportService.csvField("")).isEmpty();
+    }
+}
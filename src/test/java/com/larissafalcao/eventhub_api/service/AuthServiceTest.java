@@ -6,25 +6,32 @@ import com.larissafalcao.eventhub_api.dto.response.AuthResponse;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.event.UserChangedEvent;
 import com.larissafalcao.eventhub_api.exception.EmailAlreadyExistsException;
 import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
 import com.larissafalcao.eventhub_api.repository.UserRepository;
 import com.larissafalcao.eventhub_api.security.JwtService;
+import com.larissafalcao.eventhub_api.security.TokenRevocationRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,6 +54,12 @@ class AuthServiceTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -85,6 +98,7 @@ class AuthServiceTest {
         assertThat(response.getEmail()).isEqualTo("alice@email.com");
         assertThat(response.getRole()).isEqualTo(Role.USER);
         verify(participantRepository).save(any(Participant.class));
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent("alice@email.com"));
     }
 
     @Test
@@ -178,6 +192,7 @@ class AuthServiceTest {
         assertThat(response.getEmail()).isEqualTo("admin@email.com");
         assertThat(response.getRole()).isEqualTo(Role.ADMIN);
         verify(participantRepository, never()).save(any());
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent("admin@email.com"));
     }
 
     @Test
@@ -195,4 +210,22 @@ class AuthServiceTest {
 
         verify(userRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("logout: revokes tokens issued to the user so far")
+    void logoutRevokesIssuedTokens() {
+        User user = User.builder()
+                .id(7L)
+                .name("Alice")
+                .email("alice@email.com")
+                .password("encoded-password")
+                .role(Role.USER)
+                .build();
+        Instant before = Instant.now();
+
+        authService.logout(user);
+
+        verify(tokenRevocationRegistry).revokeTokensIssuedBefore(
+                eq(7L), argThat(cutoff -> !cutoff.isBefore(before) && !cutoff.isAfter(Instant.now())));
+    }
 }
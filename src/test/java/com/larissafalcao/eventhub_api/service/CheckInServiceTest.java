@@ -0,0 +1,194 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.checkin.CheckInIndexRegistry;
+import com.larissafalcao.eventhub_api.dto.response.CheckInIndexResponse;
+import com.larissafalcao.eventhub_api.dto.response.CheckInResponse;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import com.larissafalcao.eventhub_api.repository.CheckInTicketRepository;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CheckInIndexRegistry checkInIndexRegistry;
+    private CheckInService checkInService;
+
+    @BeforeEach
+    void setUp() {
+        checkInIndexRegistry = new CheckInIndexRegistry(directory.resolve("indexes").toString());
+        checkInService = new CheckInService(eventRepository, ticketRepository, checkInIndexRegistry, transactionManager);
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: writes the event's tickets to a new version and activates it")
+    void rebuildIndexWritesAndActivates() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L, 11L, 101L);
+
+        CheckInIndexResponse response = checkInService.rebuildIndex(1L, true);
+
+        assertThat(response.getEventId()).isEqualTo(1L);
+        assertThat(response.getTickets()).isEqualTo(2);
+        assertThat(checkInIndexRegistry.pathOf(1L, response.getVersion())).exists();
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(response.getVersion());
+        try (Stream<Path> files = Files.list(checkInIndexRegistry.getDirectory())) {
+            assertThat(files).containsExactlyInAnyOrder(
+                    checkInIndexRegistry.pathOf(1L, response.getVersion()), checkInIndexRegistry.activePathOf(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: always produces a version newer than the active one")
+    void rebuildIndexIncrementsVersion() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L);
+
+        long first = checkInService.rebuildIndex(1L, true).getVersion();
+        long second = checkInService.rebuildIndex(1L, true).getVersion();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: keeps the active version and leaves no file behind when the query fails")
+    void rebuildIndexKeepsActiveVersionOnFailure() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L);
+        long version = checkInService.rebuildIndex(1L, true).getVersion();
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(ticketRepository).forEachTicketOfEvent(eq(1L), any());
+
+        checkInService.stageIndexRefreshes();
+
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(version);
+        try (Stream<Path> files = Files.list(checkInIndexRegistry.getDirectory())) {
+            assertThat(files).containsExactlyInAnyOrder(
+                    checkInIndexRegistry.pathOf(1L, version), checkInIndexRegistry.activePathOf(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: stages the new version without swapping when activate is false")
+    void rebuildIndexStagesWithoutActivating() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L);
+        long active = checkInService.rebuildIndex(1L, true).getVersion();
+
+        CheckInIndexResponse staged = checkInService.rebuildIndex(1L, false);
+
+        assertThat(staged.getActive()).isFalse();
+        assertThat(staged.getVersion()).isGreaterThan(active);
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(active);
+        assertThat(checkInIndexRegistry.stagedPathOf(1L, staged.getVersion())).exists();
+
+        CheckInIndexResponse activated = checkInService.activateIndex(1L, staged.getVersion());
+
+        assertThat(activated.getActive()).isTrue();
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(staged.getVersion());
+        assertThat(checkInIndexRegistry.pathOf(1L, staged.getVersion())).exists();
+    }
+
+    @Test
+    @DisplayName("stageIndexRefreshes: stages a fresh version of each loaded index and keeps serving the active one")
+    void stageIndexRefreshesDoesNotSwap() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L);
+        long active = checkInService.rebuildIndex(1L, true).getVersion();
+
+        checkInService.stageIndexRefreshes();
+
+        assertThat(checkInIndexRegistry.find(1L).getVersion()).isEqualTo(active);
+        try (Stream<Path> files = Files.list(checkInIndexRegistry.getDirectory())) {
+            assertThat(files).hasSize(3).anyMatch(file -> file.toString().endsWith(".staged"));
+        }
+    }
+
+    @Test
+    @DisplayName("rebuildIndex: throws ResourceNotFoundException when event not found")
+    void rebuildIndexThrowsWhenEventNotFound() {
+        when(eventRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> checkInService.rebuildIndex(999L, true))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+    }
+
+    @Test
+    @DisplayName("activateIndex: throws ResourceNotFoundException when the version does not exist")
+    void activateIndexThrowsWhenVersionMissing() {
+        assertThatThrownBy(() -> checkInService.activateIndex(1L, 42L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Check-in index version 42 not found for event with id: 1");
+    }
+
+    @Test
+    @DisplayName("checkIn: answers from the active index for valid and unknown tickets")
+    void checkInAnswersFromIndex() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        streamTickets(1L, 10L, 100L);
+        long version = checkInService.rebuildIndex(1L, true).getVersion();
+
+        CheckInResponse valid = checkInService.checkIn(1L, 10L);
+        CheckInResponse unknown = checkInService.checkIn(1L, 11L);
+
+        assertThat(valid.isValid()).isTrue();
+        assertThat(valid.getParticipantId()).isEqualTo(100L);
+        assertThat(valid.getIndexVersion()).isEqualTo(version);
+        assertThat(unknown.isValid()).isFalse();
+        assertThat(unknown.getParticipantId()).isNull();
+    }
+
+    @Test
+    @DisplayName("checkIn: throws ResourceNotFoundException when no index is loaded")
+    void checkInThrowsWhenIndexNotLoaded() {
+        assertThatThrownBy(() -> checkInService.checkIn(1L, 10L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No check-in index loaded for event with id: 1");
+    }
+
+    private void streamTickets(Long eventId, long... ticketAndParticipantIds) {
+        doAnswer(invocation -> {
+            CheckInTicketRepository.TicketRowHandler handler = invocation.getArgument(1);
+            for (int index = 0; index < ticketAndParticipantIds.length; index += 2) {
+                handler.accept(ticketAndParticipantIds[index], ticketAndParticipantIds[index + 1]);
+            }
+            return null;
+        }).when(ticketRepository).forEachTicketOfEvent(eq(eventId), any());
+    }
+}
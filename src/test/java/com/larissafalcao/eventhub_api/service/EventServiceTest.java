@@ -1,24 +1,33 @@
 package com.larissafalcao.eventhub_api.service;
 
+import com.larissafalcao.eventhub_api.cache.EventCache;
 import com.larissafalcao.eventhub_api.dto.request.CreateEventRequest;
 import com.larissafalcao.eventhub_api.dto.request.UpdateEventRequest;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
 import com.larissafalcao.eventhub_api.dto.response.EventResponse;
 import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
+import com.larissafalcao.eventhub_api.exception.InvalidCursorException;
 import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
 import com.larissafalcao.eventhub_api.mapper.EventMapper;
 import com.larissafalcao.eventhub_api.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -35,14 +44,23 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @Spy
     private EventMapper eventMapper = new EventMapper();
 
-    @InjectMocks
     private EventService eventService;
 
     private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(7);
 
+    @BeforeEach
+    void setUp() {
+        EventCache eventCache = new EventCache(
+                new ConcurrentMapCacheManager(), eventRepository, new SimpleMeterRegistry(), 0, Duration.ofSeconds(30));
+        eventService = new EventService(eventRepository, eventMapper, applicationEventPublisher, eventCache);
+    }
+
     @Test
     @DisplayName("createEvent: creates event and returns response")
     void createEventCreatesEventAndReturnsResponse() {
@@ -77,14 +95,39 @@ class EventServiceTest {
                 .capacity(50)
                 .build();
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Event> page = new PageImpl<>(List.of(event), pageable, 1);
-        when(eventRepository.findAll(pageable)).thenReturn(page);
+        Page<EventResponse> page = new PageImpl<>(List.of(eventMapper.toResponse(event)), pageable, 1);
+        when(eventRepository.findResponses(pageable)).thenReturn(page);
 
         Page<EventResponse> result = eventService.listEvents(pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Meetup");
-        verify(eventRepository).findAll(pageable);
+        verify(eventRepository).findResponses(pageable);
+    }
+
+    @Test
+    @DisplayName("scrollEvents: continues after the returned cursor and caps the window size")
+    void scrollEventsContinuesAfterCursor() {
+        EventResponse first = EventResponse.builder().id(1L).name("Meetup").date(FUTURE_DATE).build();
+        EventResponse second = EventResponse.builder().id(2L).name("Talk").date(FUTURE_DATE).build();
+        when(eventRepository.findFirstResponsesByDate(Limit.of(2))).thenReturn(List.of(first, second));
+        when(eventRepository.findResponsesAfterByDate(FUTURE_DATE, 1L, Limit.of(101))).thenReturn(List.of(second));
+
+        CursorPage<EventResponse> firstWindow = eventService.scrollEvents(null, 1);
+        CursorPage<EventResponse> secondWindow = eventService.scrollEvents(firstWindow.getNextCursor(), 500);
+
+        assertThat(firstWindow.getContent()).extracting(EventResponse::getId).containsExactly(1L);
+        assertThat(secondWindow.getContent()).extracting(EventResponse::getId).containsExactly(2L);
+        assertThat(secondWindow.getSize()).isEqualTo(100);
+        assertThat(secondWindow.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("scrollEvents: throws InvalidCursorException when the cursor cannot be decoded")
+    void scrollEventsThrowsWhenCursorInvalid() {
+        assertThatThrownBy(() -> eventService.scrollEvents("not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Invalid cursor: not-a-cursor");
     }
 
     @Test
@@ -98,20 +141,21 @@ class EventServiceTest {
                 .location("Room A")
                 .capacity(30)
                 .build();
-        when(eventRepository.findById(id)).thenReturn(Optional.of(event));
+        EventResponse projection = eventMapper.toResponse(event);
+        when(eventRepository.findResponseById(id)).thenReturn(Optional.of(projection));
 
         EventResponse response = eventService.getEventById(id);
 
         assertThat(response.getId()).isEqualTo(id);
         assertThat(response.getName()).isEqualTo("Workshop");
-        verify(eventRepository).findById(id);
+        verify(eventRepository).findResponseById(id);
     }
 
     @Test
     @DisplayName("getEventById: throws ResourceNotFoundException when not found")
     void getEventByIdThrowsWhenNotFound() {
         Long id = 999L;
-        when(eventRepository.findById(id)).thenReturn(Optional.empty());
+        when(eventRepository.findResponseById(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> eventService.getEventById(id))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -144,6 +188,7 @@ class EventServiceTest {
         assertThat(response.getCapacity()).isEqualTo(20);
         assertThat(existing.getName()).isEqualTo("New Name");
         verify(eventRepository).save(existing);
+        verify(applicationEventPublisher).publishEvent(any(EventModifiedEvent.class));
     }
 
     @Test
@@ -172,6 +217,7 @@ class EventServiceTest {
         eventService.deleteEvent(id);
 
         verify(eventRepository).delete(event);
+        verify(applicationEventPublisher).publishEvent(any(EventModifiedEvent.class));
     }
 
     @Test
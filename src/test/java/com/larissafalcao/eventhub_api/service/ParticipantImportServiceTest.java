@@ -0,0 +1,212 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.request.CreateParticipantRequest;
+import com.larissafalcao.eventhub_api.dto.response.ParticipantImportReport;
+import com.larissafalcao.eventhub_api.event.UserChangedEvent;
+import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
+import com.larissafalcao.eventhub_api.repository.ParticipantUpsertResult;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantImportServiceTest {
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private ValidatorFactory validatorFactory;
+    private ParticipantImportService participantImportService;
+    private final List<List<String>> upsertedChunks = new ArrayList<>();
+    private final List<ParticipantImportReport> reports = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        participantImportService = new ParticipantImportService(
+                participantRepository,
+                validatorFactory.getValidator(),
+                JsonMapper.builder().build(),
+                applicationEventPublisher,
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("importParticipants: upserts NDJSON rows in chunks and reports each rejected row")
+    void importParticipantsUpsertsNdjsonInChunks() throws IOException {
+        recordUpserts(1);
+        String body = """
+                {"name":"Alice","email":"alice@email.com"}
+                {"name":"Bob","email":"invalid"}
+
+                {"name":"Carol","email":"carol@email.com"}
+                not json
+                {"name":"Dave","email":"dave@email.com"}
+                """;
+
+        importParticipants(body, ParticipantImportFormat.NDJSON);
+
+        assertThat(upsertedChunks).containsExactly(
+                List.of("alice@email.com", "carol@email.com"),
+                List.of("dave@email.com"));
+        assertThat(reports).extracting(ParticipantImportReport::getType).containsExactly(
+                "error", "progress", "error", "progress", "summary");
+        assertThat(reports.get(0).getLine()).isEqualTo(2L);
+        assertThat(reports.get(0).getErrors()).containsExactly("email: Participant email must be valid");
+        assertThat(reports.get(2).getLine()).isEqualTo(5L);
+        assertThat(reports.get(2).getErrors()).containsExactly("Malformed JSON");
+        ParticipantImportReport summary = reports.getLast();
+        assertThat(summary.getRowsRead()).isEqualTo(5L);
+        assertThat(summary.getInserted()).isEqualTo(2L);
+        assertThat(summary.getUpdated()).isEqualTo(1L);
+        assertThat(summary.getFailed()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("importParticipants: maps CSV columns by header and counts a repeated email as a duplicate")
+    void importParticipantsMapsCsvColumnsByHeader() throws IOException {
+        recordUpserts(1);
+        String body = "\uFEFFEmail,Name\r\n"
+                + "alice@email.com,\"Alice \"\"Al\"\" Smith\"\r\n"
+                + "alice@email.com,\"Smith, Alice\"\r\n"
+                + "bob@email.com\r\n";
+
+        importParticipants(body, ParticipantImportFormat.CSV);
+
+        assertThat(upsertedChunks).containsExactly(List.of("alice@email.com"));
+        assertThat(reports).extracting(ParticipantImportReport::getType).containsExactly(
+                "error", "progress", "summary");
+        assertThat(reports.get(0).getLine()).isEqualTo(4L);
+        assertThat(reports.get(0).getErrors()).containsExactly("Expected at least 2 columns but found 1");
+        assertThat(reports.getLast().getInserted()).isEqualTo(1L);
+        assertThat(reports.getLast().getUpdated()).isEqualTo(0L);
+        assertThat(reports.getLast().getDuplicates()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("importParticipants: invalidates the cached principal of each renamed participant")
+    void importParticipantsInvalidatesRenamedUsers() throws IOException {
+        when(participantRepository.upsertByEmail(anyCollection()))
+                .thenReturn(new ParticipantUpsertResult(0, List.of("alice@email.com")));
+        String body = """
+                {"name":"Alice Smith","email":"alice@email.com"}
+                {"name":"Bob","email":"bob@email.com"}
+                """;
+
+        importParticipants(body, ParticipantImportFormat.NDJSON);
+
+        verify(applicationEventPublisher).publishEvent(new UserChangedEvent("alice@email.com"));
+        verifyNoMoreInteractions(applicationEventPublisher);
+        assertThat(reports.getLast().getUpdated()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("importParticipants: aborts when the CSV header has no email column")
+    void importParticipantsAbortsWithoutCsvEmailColumn() throws IOException {
+        importParticipants("name,phone\nAlice,123\n", ParticipantImportFormat.CSV);
+
+        assertThat(reports).singleElement().satisfies(report -> {
+            assertThat(report.getType()).isEqualTo("aborted");
+            assertThat(report.getMessage()).isEqualTo("CSV header must contain name and email columns");
+        });
+        verify(participantRepository, never()).upsertByEmail(anyCollection());
+    }
+
+    @Test
+    @DisplayName("importParticipants: rejects lines over the length limit without buffering them")
+    void importParticipantsRejectsLongLines() throws IOException {
+        String longName = "a".repeat(ParticipantImportService.MAX_LINE_LENGTH * 4);
+
+        importParticipants("{\"name\":\"" + longName + "\",\"email\":\"alice@email.com\"}\n", ParticipantImportFormat.NDJSON);
+
+        assertThat(reports.getFirst().getErrors())
+                .containsExactly("Line exceeds " + ParticipantImportService.MAX_LINE_LENGTH + " characters");
+        assertThat(reports.getLast().getType()).isEqualTo("summary");
+    }
+
+    @Test
+    @DisplayName("importParticipants: reports an abort after the chunks already saved when the database fails")
+    void importParticipantsReportsAbortOnDatabaseFailure() throws IOException {
+        when(participantRepository.upsertByEmail(anyCollection()))
+                .thenReturn(new ParticipantUpsertResult(2, List.of()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        String body = """
+                {"name":"Alice","email":"alice@email.com"}
+                {"name":"Bob","email":"bob@email.com"}
+                {"name":"Carol","email":"carol@email.com"}
+                {"name":"Dave","email":"dave@email.com"}
+                """;
+
+        importParticipants(body, ParticipantImportFormat.NDJSON);
+
+        assertThat(reports).extracting(ParticipantImportReport::getType).containsExactly("progress", "aborted");
+        assertThat(reports.getLast().getInserted()).isEqualTo(2L);
+        assertThat(reports.getLast().getMessage())
+                .isEqualTo("Import aborted at line 4; rows reported as progress were saved");
+    }
+
+    @Test
+    @DisplayName("splitCsvLine: handles quoted separators and escaped quotes, and rejects unterminated quotes")
+    void splitCsvLineHandlesQuoting() {
+        assertThat(ParticipantImportService.splitCsvLine("a,\"b,c\",\"d\"\"e\",")).containsExactly("a", "b,c", "d\"e", "");
+        assertThat(ParticipantImportService.splitCsvLine("a,\"b")).isNull();
+    }
+
+    @Test
+    @DisplayName("readLine: strips CR and truncates long lines one character past the limit")
+    void readLineBoundsLineLength() throws IOException {
+        String longLine = "x".repeat(ParticipantImportService.MAX_LINE_LENGTH + 100);
+        BufferedReader reader = new BufferedReader(new StringReader("first\r\n" + longLine + "\nlast"));
+
+        assertThat(ParticipantImportService.readLine(reader)).isEqualTo("first");
+        assertThat(ParticipantImportService.readLine(reader)).hasSize(ParticipantImportService.MAX_LINE_LENGTH + 1);
+        assertThat(ParticipantImportService.readLine(reader)).isEqualTo("last");
+        assertThat(ParticipantImportService.readLine(reader)).isNull();
+    }
+
+    private void recordUpserts(int insertedPerChunk) {
+        when(participantRepository.upsertByEmail(anyCollection())).thenAnswer(invocation -> {
+            Collection<CreateParticipantRequest> chunk = invocation.getArgument(0);
+            upsertedChunks.add(chunk.stream().map(CreateParticipantRequest::getEmail).toList());
+            return new ParticipantUpsertResult(Math.min(insertedPerChunk, chunk.size()), List.of());
+        });
+    }
+
+    private void importParticipants(String body, ParticipantImportFormat format) throws IOException {
+        participantImportService.importParticipants(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, reports::add);
+    }
+}
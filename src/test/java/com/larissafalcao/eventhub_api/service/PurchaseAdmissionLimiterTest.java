@@ -0,0 +1,87 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.exception.PurchaseThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PurchaseAdmissionLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("execute: runs the purchase and returns its result")
+    void executeRunsPurchase() {
+        PurchaseAdmissionLimiter limiter = new PurchaseAdmissionLimiter(meterRegistry, 8, 1, 0, Duration.ZERO);
+
+        assertThat(limiter.execute(1L, () -> "ticket")).isEqualTo("ticket");
+        assertThat(limiter.execute(1L, () -> "another ticket")).isEqualTo("another ticket");
+    }
+
+    @Test
+    @DisplayName("execute: fails fast when the event already has the maximum purchases in flight")
+    void executeFailsFastWhenEventIsSaturated() throws Exception {
+        PurchaseAdmissionLimiter limiter = new PurchaseAdmissionLimiter(meterRegistry, 8, 1, 0, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> inFlight = executor.submit(() -> limiter.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                return "ticket";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> limiter.execute(1L, () -> "rejected"))
+                    .isInstanceOf(PurchaseThrottledException.class)
+                    .hasMessage("Too many concurrent purchases for event 1, please retry shortly");
+            assertThat(limiter.execute(2L, () -> "other event")).isEqualTo("other event");
+
+            release.countDown();
+            assertThat(inFlight.get()).isEqualTo("ticket");
+        }
+        assertThat(meterRegistry.get("tickets.purchase.admission.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("execute: lets a waiting purchase in once a permit is released")
+    void executeAdmitsWaitingPurchaseWhenPermitIsReleased() throws Exception {
+        PurchaseAdmissionLimiter limiter = new PurchaseAdmissionLimiter(meterRegistry, 8, 1, 10, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<String> inFlight = executor.submit(() -> limiter.execute(1L, () -> {
+                started.countDown();
+                await(release);
+                return "first";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> waiting = executor.submit(() -> limiter.execute(1L, () -> "second"));
+
+            release.countDown();
+
+            assertThat(inFlight.get()).isEqualTo("first");
+            assertThat(waiting.get()).isEqualTo("second");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
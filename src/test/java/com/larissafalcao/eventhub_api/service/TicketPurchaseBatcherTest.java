@@ -0,0 +1,232 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketPurchaseBatcherTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Mock
+    private TicketService ticketService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TicketPurchaseBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new TicketPurchaseBatcher(ticketService, meterRegistry, 10, Duration.ofMillis(200), 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit: writes queued purchases of an event in one batch")
+    void submitWritesQueuedPurchasesInOneBatch() {
+        when(ticketService.purchaseTicketBatch(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> participantIds = invocation.getArgument(1);
+            return participantIds.stream()
+                    .map(participantId -> TicketPurchaseOutcome.success(EVENT_ID, participantId, ticket(participantId)))
+                    .toList();
+        });
+
+        List<CompletableFuture<TicketResponse>> results = new ArrayList<>();
+        for (long participantId = 1; participantId <= 10; participantId++) {
+            results.add(batcher.submit(EVENT_ID, participantId));
+        }
+
+        for (int index = 0; index < results.size(); index++) {
+            assertThat(results.get(index).join().getParticipantId()).isEqualTo(index + 1L);
+        }
+        verify(ticketService, times(1)).purchaseTicketBatch(eq(EVENT_ID), anyList());
+        DistributionSummary batchSizes = meterRegistry.get("tickets.purchase.batch.size").summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("submit: completes each caller with its own error")
+    void submitCompletesEachCallerWithItsOwnError() {
+        when(ticketService.purchaseTicketBatch(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> participantIds = invocation.getArgument(1);
+            return participantIds.stream()
+                    .map(participantId -> participantId == 2L
+                            ? TicketPurchaseOutcome.failure(EVENT_ID, participantId, new EventFullException(EVENT_ID))
+                            : TicketPurchaseOutcome.success(EVENT_ID, participantId, ticket(participantId)))
+                    .toList();
+        });
+
+        CompletableFuture<TicketResponse> first = batcher.submit(EVENT_ID, 1L);
+        CompletableFuture<TicketResponse> second = batcher.submit(EVENT_ID, 2L);
+
+        assertThat(first.join().getParticipantId()).isEqualTo(1L);
+        assertThatThrownBy(second::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(EventFullException.class);
+    }
+
+    @Test
+    @DisplayName("submit: fails every purchase of a batch when the batch cannot be written")
+    void submitFailsWholeBatchWhenWriteFails() {
+        when(ticketService.purchaseTicketBatch(eq(EVENT_ID), anyList()))
+                .thenThrow(new ResourceNotFoundException("Event not found with id: 1"));
+
+        CompletableFuture<TicketResponse> first = batcher.submit(EVENT_ID, 1L);
+        CompletableFuture<TicketResponse> second = batcher.submit(EVENT_ID, 2L);
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("submit: lets another event write its batch before the next batch of a busy event")
+    void submitInterleavesBatchesOfDifferentEvents() throws InterruptedException {
+        TicketPurchaseBatcher singleThreadBatcher =
+                new TicketPurchaseBatcher(ticketService, meterRegistry, 1, Duration.ZERO, 1);
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Long> batchedEvents = Collections.synchronizedList(new ArrayList<>());
+        when(ticketService.purchaseTicketBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            Long eventId = invocation.getArgument(0);
+            List<Long> participantIds = invocation.getArgument(1);
+            batchedEvents.add(eventId);
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await();
+            return participantIds.stream()
+                    .map(participantId -> TicketPurchaseOutcome.success(eventId, participantId, ticket(participantId)))
+                    .toList();
+        });
+
+        try {
+            CompletableFuture<TicketResponse> first = singleThreadBatcher.submit(EVENT_ID, 1L);
+            firstBatchStarted.await();
+            CompletableFuture<TicketResponse> second = singleThreadBatcher.submit(EVENT_ID, 2L);
+            CompletableFuture<TicketResponse> third = singleThreadBatcher.submit(EVENT_ID, 3L);
+            CompletableFuture<TicketResponse> otherEvent = singleThreadBatcher.submit(2L, 4L);
+            releaseFirstBatch.countDown();
+
+            CompletableFuture.allOf(first, second, third, otherEvent).join();
+            assertThat(batchedEvents).containsExactly(EVENT_ID, 2L, EVENT_ID, EVENT_ID);
+        } finally {
+            singleThreadBatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit: drops a queued purchase whose caller stopped waiting")
+    void submitDropsCancelledPurchases() throws InterruptedException {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Long> batchedParticipants = Collections.synchronizedList(new ArrayList<>());
+        when(ticketService.purchaseTicketBatch(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> participantIds = invocation.getArgument(1);
+            batchedParticipants.addAll(participantIds);
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await();
+            return participantIds.stream()
+                    .map(participantId -> TicketPurchaseOutcome.success(EVENT_ID, participantId, ticket(participantId)))
+                    .toList();
+        });
+        TicketPurchaseBatcher singleBatcher =
+                new TicketPurchaseBatcher(ticketService, meterRegistry, 1, Duration.ZERO, 1);
+
+        try {
+            CompletableFuture<TicketResponse> first = singleBatcher.submit(EVENT_ID, 1L);
+            firstBatchStarted.await();
+            CompletableFuture<TicketResponse> abandoned = singleBatcher.submit(EVENT_ID, 2L);
+            CompletableFuture<TicketResponse> third = singleBatcher.submit(EVENT_ID, 3L);
+            abandoned.cancel(false);
+            releaseFirstBatch.countDown();
+
+            CompletableFuture.allOf(first, third).join();
+            assertThat(batchedParticipants).containsExactly(1L, 3L);
+        } finally {
+            singleBatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit: skips a purchase cancelled while its batch was lingering")
+    void submitSkipsPurchasesCancelledWhileLingering() {
+        List<Long> batchedParticipants = Collections.synchronizedList(new ArrayList<>());
+        when(ticketService.purchaseTicketBatch(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Long> participantIds = invocation.getArgument(1);
+            batchedParticipants.addAll(participantIds);
+            return participantIds.stream()
+                    .map(participantId -> TicketPurchaseOutcome.success(EVENT_ID, participantId, ticket(participantId)))
+                    .toList();
+        });
+
+        CompletableFuture<TicketResponse> first = batcher.submit(EVENT_ID, 1L);
+        CompletableFuture<TicketResponse> abandoned = batcher.submit(EVENT_ID, 2L);
+        abandoned.cancel(false);
+        CompletableFuture<TicketResponse> third = batcher.submit(EVENT_ID, 3L);
+
+        CompletableFuture.allOf(first, third).join();
+        assertThat(batchedParticipants).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("submit: removes the queue of an event once it is drained")
+    void submitRemovesDrainedQueues() throws InterruptedException {
+        when(ticketService.purchaseTicketBatch(anyLong(), anyList())).thenAnswer(invocation -> {
+            Long eventId = invocation.getArgument(0);
+            List<Long> participantIds = invocation.getArgument(1);
+            return participantIds.stream()
+                    .map(participantId -> TicketPurchaseOutcome.success(eventId, participantId, ticket(participantId)))
+                    .toList();
+        });
+        TicketPurchaseBatcher eagerBatcher = new TicketPurchaseBatcher(ticketService, meterRegistry, 1, Duration.ZERO, 2);
+
+        List<CompletableFuture<TicketResponse>> results = new ArrayList<>();
+        for (long eventId = 1; eventId <= 20; eventId++) {
+            results.add(eagerBatcher.submit(eventId, 1L));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        eagerBatcher.shutdown();
+
+        assertThat(eagerBatcher.queuedEventCount()).isZero();
+    }
+
+    private static TicketResponse ticket(Long participantId) {
+        return TicketResponse.builder()
+                .id(100L + participantId)
+                .eventId(EVENT_ID)
+                .participantId(participantId)
+                .purchasedAt(Instant.parse("2026-02-16T12:00:00Z"))
+                .build();
+    }
+}
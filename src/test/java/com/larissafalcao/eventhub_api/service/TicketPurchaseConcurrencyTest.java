@@ -0,0 +1,94 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.entity.Event;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.repository.EventRepository;
+import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
+import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "tickets.purchase.strategy=conditional-update")
+@Testcontainers(disabledWithoutDocker = true)
+class TicketPurchaseConcurrencyTest {
+
+    private static final int CAPACITY = 100;
+    private static final int PURCHASES = 2_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Test
+    @DisplayName("purchaseTicket: never oversells an event under thousands of parallel purchases")
+    void purchaseTicketNeverOversellsUnderParallelPurchases() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Flash Sale")
+                .date(LocalDate.now().plusDays(30))
+                .location("Arena")
+                .capacity(CAPACITY)
+                .build());
+        List<Participant> participants = participantRepository.saveAll(IntStream.range(0, PURCHASES)
+                .mapToObj(index -> Participant.builder()
+                        .name("Participant " + index)
+                        .email("participant" + index + "@email.com")
+                        .build())
+                .toList());
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(64)) {
+            for (Participant participant : participants) {
+                Callable<Boolean> purchase = () -> {
+                    try {
+                        ticketService.purchaseTicket(event.getId(), participant.getId());
+                        return true;
+                    } catch (EventFullException ex) {
+                        return false;
+                    }
+                };
+                results.add(executor.submit(purchase));
+            }
+        }
+
+        long sold = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                sold++;
+            }
+        }
+
+        assertThat(sold).isEqualTo(CAPACITY);
+        assertThat(ticketRepository.countByEventId(event.getId())).isEqualTo(CAPACITY);
+        assertThat(eventRepository.findById(event.getId()).orElseThrow().getCapacity()).isZero();
+    }
+}
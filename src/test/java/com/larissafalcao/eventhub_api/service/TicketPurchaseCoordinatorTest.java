@@ -0,0 +1,79 @@
+package com.larissafalcao.eventhub_api.service;
+
+import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
+import com.larissafalcao.eventhub_api.entity.Participant;
+import com.larissafalcao.eventhub_api.entity.Role;
+import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.PurchaseTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TicketPurchaseCoordinatorTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private TicketPurchaseBatcher ticketPurchaseBatcher;
+
+    @Mock
+    private ObjectProvider<TicketPurchaseBatcher> batcherProvider;
+
+    @Mock
+    private ObjectProvider<PurchaseAdmissionLimiter> limiterProvider;
+
+    private TicketPurchaseCoordinator coordinator;
+
+    private final User user = User.builder()
+            .id(1L)
+            .name("Alice")
+            .email("alice@example.com")
+            .password("encoded-password")
+            .role(Role.USER)
+            .participant(Participant.builder().id(10L).name("Alice").email("alice@example.com").build())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(batcherProvider.getIfAvailable()).thenReturn(ticketPurchaseBatcher);
+        coordinator = new TicketPurchaseCoordinator(
+                ticketService, batcherProvider, limiterProvider, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("purchaseTicket: gives up on a batch that takes longer than the timeout")
+    void purchaseTicketTimesOutWaitingForBatch() {
+        CompletableFuture<TicketResponse> pending = new CompletableFuture<>();
+        when(ticketPurchaseBatcher.submit(EVENT_ID, 10L)).thenReturn(pending);
+
+        assertThatThrownBy(() -> coordinator.purchaseTicket(EVENT_ID, user))
+                .isInstanceOf(PurchaseTimeoutException.class);
+        assertThat(pending).isCancelled();
+    }
+
+    @Test
+    @DisplayName("purchaseTicket: rethrows the error the batch completed the purchase with")
+    void purchaseTicketRethrowsBatchError() {
+        when(ticketPurchaseBatcher.submit(EVENT_ID, 10L))
+                .thenReturn(CompletableFuture.failedFuture(new EventFullException(EVENT_ID)));
+
+        assertThatThrownBy(() -> coordinator.purchaseTicket(EVENT_ID, user))
+                .isInstanceOf(EventFullException.class);
+    }
+}
@@ -1,27 +1,37 @@
 package com.larissafalcao.eventhub_api.service;
 
+import com.larissafalcao.eventhub_api.dto.request.TicketCursor;
+import com.larissafalcao.eventhub_api.dto.response.CursorPage;
+import com.larissafalcao.eventhub_api.dto.response.TicketHistoryResponse;
 import com.larissafalcao.eventhub_api.dto.response.TicketResponse;
 import com.larissafalcao.eventhub_api.entity.Event;
 import com.larissafalcao.eventhub_api.entity.Participant;
 import com.larissafalcao.eventhub_api.entity.Role;
 import com.larissafalcao.eventhub_api.entity.Ticket;
 import com.larissafalcao.eventhub_api.entity.User;
+import com.larissafalcao.eventhub_api.event.EventCapacityChangedEvent;
+import com.larissafalcao.eventhub_api.event.EventModifiedEvent;
 import com.larissafalcao.eventhub_api.event.TicketPurchasedEvent;
 import com.larissafalcao.eventhub_api.exception.DuplicateTicketException;
 import com.larissafalcao.eventhub_api.exception.EventFullException;
+import com.larissafalcao.eventhub_api.exception.InvalidCursorException;
 import com.larissafalcao.eventhub_api.exception.ResourceNotFoundException;
 import com.larissafalcao.eventhub_api.mapper.TicketMapper;
 import com.larissafalcao.eventhub_api.repository.EventRepository;
 import com.larissafalcao.eventhub_api.repository.ParticipantRepository;
 import com.larissafalcao.eventhub_api.repository.TicketRepository;
+import com.larissafalcao.eventhub_api.reservation.PessimisticLockSeatReservation;
+import com.larissafalcao.eventhub_api.reservation.SeatReservationStrategy;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -31,8 +41,13 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,11 +68,21 @@ class TicketServiceTest {
     @Spy
     private TicketMapper ticketMapper = new TicketMapper();
 
-    @InjectMocks
     private TicketService ticketService;
 
     private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(7);
 
+    @BeforeEach
+    void setUp() {
+        ticketService = new TicketService(
+                new PessimisticLockSeatReservation(eventRepository),
+                eventRepository,
+                participantRepository,
+                ticketRepository,
+                ticketMapper,
+                applicationEventPublisher);
+    }
+
     @Test
     @DisplayName("purchaseTicket: creates ticket when event has available capacity")
     void purchaseTicketCreatesTicketWhenEventHasAvailableCapacity() {
@@ -89,6 +114,7 @@ class TicketServiceTest {
         verify(ticketRepository).save(any(Ticket.class));
         verify(eventRepository).save(event);
         verify(applicationEventPublisher).publishEvent(any(TicketPurchasedEvent.class));
+        verify(applicationEventPublisher).publishEvent(new EventCapacityChangedEvent(eventId));
     }
 
     @Test
@@ -163,28 +189,247 @@ class TicketServiceTest {
     }
 
     @Test
-    @DisplayName("listTicketsByAuthenticatedUser: returns tickets ordered by purchase date")
-    void listTicketsByAuthenticatedUserReturnsTickets() {
+    @DisplayName("purchaseTicket: skips the duplicate query when the seat reservation already checked it")
+    void purchaseTicketSkipsDuplicateQueryWhenReservationDetectsDuplicates() {
+        Long eventId = 1L;
         Long participantId = 10L;
+        Event event = createEvent(eventId, 99);
         Participant participant = createParticipant(participantId, "Alice", "alice@email.com");
-        User authenticatedUser = createUser(participant);
-        Event event = createEvent(1L, 100);
-        Ticket ticket = Ticket.builder()
-                .id(50L)
-                .event(event)
-                .participant(participant)
-                .purchasedAt(Instant.parse("2026-02-16T12:00:00Z"))
-                .build();
+        SeatReservationStrategy seatReservationStrategy = mock(SeatReservationStrategy.class);
+        TicketService service = new TicketService(
+                seatReservationStrategy,
+                eventRepository,
+                participantRepository,
+                ticketRepository,
+                ticketMapper,
+                applicationEventPublisher);
+
+        when(seatReservationStrategy.reserveSeat(eventId, participantId)).thenReturn(event);
+        when(seatReservationStrategy.detectsDuplicates()).thenReturn(true);
+        when(participantRepository.findById(participantId)).thenReturn(Optional.of(participant));
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.purchaseTicket(eventId, participantId);
+
+        verify(ticketRepository, never()).existsByEventIdAndParticipantId(any(), any());
+        verify(ticketRepository).save(any(Ticket.class));
+    }
+
+    @Test
+    @DisplayName("purchaseTicketBatch: locks the event once and reports an outcome per purchase")
+    void purchaseTicketBatchReportsOutcomePerPurchase() {
+        Long eventId = 1L;
+        Event event = createEvent(eventId, 2);
+        Participant alice = createParticipant(10L, "Alice", "alice@email.com");
+        Participant bob = createParticipant(11L, "Bob", "bob@email.com");
+        Participant carol = createParticipant(12L, "Carol", "carol@email.com");
+        Participant dave = createParticipant(13L, "Dave", "dave@email.com");
+        List<Long> participantIds = List.of(10L, 11L, 10L, 999L, 12L, 13L);
+
+        when(eventRepository.findByIdForUpdate(eventId)).thenReturn(Optional.of(event));
+        when(participantRepository.findAllById(participantIds)).thenReturn(List.of(alice, bob, carol, dave));
+        when(ticketRepository.findParticipantIdsByEventIdAndParticipantIdIn(eventId, participantIds))
+                .thenReturn(List.of(11L));
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+            return tickets.stream()
+                    .map(t -> Ticket.builder()
+                            .id(100L + t.getParticipant().getId())
+                            .event(t.getEvent())
+                            .participant(t.getParticipant())
+                            .purchasedAt(t.getPurchasedAt())
+                            .build())
+                    .toList();
+        });
+
+        List<TicketPurchaseOutcome> outcomes = ticketService.purchaseTicketBatch(eventId, participantIds);
 
-        when(ticketRepository.findByParticipantIdOrderByPurchasedAtDesc(participantId))
-                .thenReturn(List.of(ticket));
+        assertThat(outcomes).hasSize(6);
+        assertThat(outcomes.get(0).ticket().getId()).isEqualTo(110L);
+        assertThat(outcomes.get(1).error()).isInstanceOf(DuplicateTicketException.class);
+        assertThat(outcomes.get(2).error()).isInstanceOf(DuplicateTicketException.class);
+        assertThat(outcomes.get(3).error()).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Participant not found with id: 999");
+        assertThat(outcomes.get(4).ticket().getId()).isEqualTo(112L);
+        assertThat(outcomes.get(5).error()).isInstanceOf(EventFullException.class);
+        assertThat(event.getCapacity()).isZero();
+        verify(eventRepository).findByIdForUpdate(eventId);
+        verify(eventRepository).save(event);
+        verify(applicationEventPublisher, times(2)).publishEvent(any(TicketPurchasedEvent.class));
+        verify(applicationEventPublisher).publishEvent(new EventCapacityChangedEvent(eventId));
+    }
+
+    @Test
+    @DisplayName("purchaseTicketBatch: throws ResourceNotFoundException when event does not exist")
+    void purchaseTicketBatchThrowsWhenEventDoesNotExist() {
+        when(eventRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> ticketService.purchaseTicketBatch(999L, List.of(10L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+
+        verify(ticketRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("purchaseTickets: locks each event once in id order and keeps results in request order")
+    void purchaseTicketsAcrossEventsKeepsRequestOrder() {
+        Event javaConf = createEvent(1L, 10);
+        Event kotlinConf = createEvent(2L, 1);
+        Participant alice = createParticipant(10L, "Alice", "alice@email.com");
+        Participant bob = createParticipant(11L, "Bob", "bob@email.com");
+        List<TicketPurchaseItem> items = List.of(
+                new TicketPurchaseItem(2L, 10L),
+                new TicketPurchaseItem(1L, 10L),
+                new TicketPurchaseItem(2L, 11L),
+                new TicketPurchaseItem(1L, 11L));
+
+        when(participantRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(alice, bob));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(javaConf));
+        when(eventRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(kotlinConf));
+        when(ticketRepository.findParticipantIdsByEventIdAndParticipantIdIn(any(), anyList())).thenReturn(List.of());
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Ticket> tickets = invocation.getArgument(0);
+            return tickets.stream()
+                    .map(t -> Ticket.builder()
+                            .id(t.getEvent().getId() * 100 + t.getParticipant().getId())
+                            .event(t.getEvent())
+                            .participant(t.getParticipant())
+                            .purchasedAt(t.getPurchasedAt())
+                            .build())
+                    .toList();
+        });
+
+        List<TicketPurchaseOutcome> outcomes = ticketService.purchaseTickets(items, false);
+
+        assertThat(outcomes).extracting(TicketPurchaseOutcome::eventId).containsExactly(2L, 1L, 2L, 1L);
+        assertThat(outcomes.get(0).ticket().getId()).isEqualTo(210L);
+        assertThat(outcomes.get(1).ticket().getId()).isEqualTo(110L);
+        assertThat(outcomes.get(2).error()).isInstanceOf(EventFullException.class);
+        assertThat(outcomes.get(3).ticket().getId()).isEqualTo(111L);
+        assertThat(javaConf.getCapacity()).isEqualTo(8);
+        assertThat(kotlinConf.getCapacity()).isZero();
+
+        InOrder locks = inOrder(eventRepository);
+        locks.verify(eventRepository).findByIdForUpdate(1L);
+        locks.verify(eventRepository).findByIdForUpdate(2L);
+        verify(ticketRepository).saveAll(anyList());
+        verify(applicationEventPublisher, times(3)).publishEvent(any(TicketPurchasedEvent.class));
+        verify(applicationEventPublisher).publishEvent(new EventCapacityChangedEvent(1L));
+        verify(applicationEventPublisher).publishEvent(new EventCapacityChangedEvent(2L));
+        verify(applicationEventPublisher).publishEvent(new EventModifiedEvent(1L));
+        verify(applicationEventPublisher).publishEvent(new EventModifiedEvent(2L));
+    }
+
+    @Test
+    @DisplayName("purchaseTickets: reports a missing event on each of its items")
+    void purchaseTicketsReportsMissingEventPerItem() {
+        Event event = createEvent(1L, 10);
+        Participant alice = createParticipant(10L, "Alice", "alice@email.com");
+        List<TicketPurchaseItem> items = List.of(new TicketPurchaseItem(999L, 10L), new TicketPurchaseItem(1L, 10L));
 
-        List<TicketResponse> result = ticketService.listTicketsByAuthenticatedUser(authenticatedUser);
+        when(participantRepository.findAllById(List.of(10L))).thenReturn(List.of(alice));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+        when(ticketRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TicketPurchaseOutcome> outcomes = ticketService.purchaseTickets(items, false);
+
+        assertThat(outcomes.get(0).error()).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Event not found with id: 999");
+        assertThat(outcomes.get(1).isSuccessful()).isTrue();
+        assertThat(event.getCapacity()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("purchaseTickets: atomic purchase throws the first error without saving anything")
+    void purchaseTicketsAtomicThrowsFirstError() {
+        Event event = createEvent(1L, 1);
+        Participant alice = createParticipant(10L, "Alice", "alice@email.com");
+        Participant bob = createParticipant(11L, "Bob", "bob@email.com");
+        List<TicketPurchaseItem> items = List.of(new TicketPurchaseItem(1L, 10L), new TicketPurchaseItem(1L, 11L));
+
+        when(participantRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(alice, bob));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(event));
+
+        assertThatThrownBy(() -> ticketService.purchaseTickets(items, true))
+                .isInstanceOf(EventFullException.class);
+
+        assertThat(event.getCapacity()).isEqualTo(1);
+        verify(ticketRepository, never()).saveAll(anyList());
+        verify(eventRepository, never()).save(any());
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("listTicketsByAuthenticatedUser: returns the first window with a cursor to the next one")
+    void listTicketsByAuthenticatedUserReturnsFirstWindow() {
+        Long participantId = 10L;
+        User authenticatedUser = createUser(createParticipant(participantId, "Alice", "alice@email.com"));
+        TicketHistoryResponse newest = createHistory(51L, "2026-02-17T12:00:00Z");
+        TicketHistoryResponse older = createHistory(50L, "2026-02-16T12:00:00Z");
+
+        when(ticketRepository.findFirstHistoryByParticipantId(participantId, Limit.of(2)))
+                .thenReturn(List.of(newest, older));
+
+        CursorPage<TicketHistoryResponse> result =
+                ticketService.listTicketsByAuthenticatedUser(authenticatedUser, null, 1);
+
+        assertThat(result.getContent()).containsExactly(newest);
+        assertThat(result.getSize()).isEqualTo(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TicketCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TicketCursor(newest.getPurchasedAt(), 51L));
+    }
+
+    @Test
+    @DisplayName("listTicketsByAuthenticatedUser: continues before the cursor and stops on the last window")
+    void listTicketsByAuthenticatedUserContinuesFromCursor() {
+        Long participantId = 10L;
+        User authenticatedUser = createUser(createParticipant(participantId, "Alice", "alice@email.com"));
+        TicketHistoryResponse older = createHistory(50L, "2026-02-16T12:00:00Z");
+        Instant cursorPurchasedAt = Instant.parse("2026-02-17T12:00:00Z");
+        String cursor = new TicketCursor(cursorPurchasedAt, 51L).encode();
+
+        when(ticketRepository.findHistoryByParticipantIdBefore(participantId, cursorPurchasedAt, 51L, Limit.of(21)))
+                .thenReturn(List.of(older));
+
+        CursorPage<TicketHistoryResponse> result =
+                ticketService.listTicketsByAuthenticatedUser(authenticatedUser, cursor, 20);
+
+        assertThat(result.getContent()).containsExactly(older);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("listTicketsByAuthenticatedUser: clamps the window size")
+    void listTicketsByAuthenticatedUserClampsSize() {
+        Long participantId = 10L;
+        User authenticatedUser = createUser(createParticipant(participantId, "Alice", "alice@email.com"));
+        when(ticketRepository.findFirstHistoryByParticipantId(participantId, Limit.of(101))).thenReturn(List.of());
+
+        CursorPage<TicketHistoryResponse> result =
+                ticketService.listTicketsByAuthenticatedUser(authenticatedUser, null, 1000);
+
+        assertThat(result.getSize()).isEqualTo(100);
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("listTicketsByAuthenticatedUser: rejects a malformed cursor")
+    void listTicketsByAuthenticatedUserRejectsInvalidCursor() {
+        User authenticatedUser = createUser(createParticipant(10L, "Alice", "alice@email.com"));
+
+        assertThatThrownBy(() -> ticketService.listTicketsByAuthenticatedUser(authenticatedUser, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(ticketRepository);
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(50L);
-        assertThat(result.get(0).getEventId()).isEqualTo(1L);
-        assertThat(result.get(0).getParticipantId()).isEqualTo(participantId);
+    private static TicketHistoryResponse createHistory(Long id, String purchasedAt) {
+        return new TicketHistoryResponse(id, 1L, "JavaConf", FUTURE_DATE, Instant.parse(purchasedAt));
     }
 
     private static Event createEvent(Long id, Integer capacity) {